@@ -0,0 +1,57 @@
+package com.bookstore.benchmarks;
+
+import com.bookstore.models.Author;
+import com.bookstore.models.Book;
+import com.google.gson.Gson;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+
+/**
+ * Deterministic Books/Authors payloads shaped like FakeRestAPI responses.
+ */
+final class BenchmarkData {
+
+    private static final Gson GSON = new Gson();
+    private static final String DESCRIPTION = "Lorem lorem lorem. Lorem lorem lorem. Lorem lorem lorem.\n";
+    private static final String EXCERPT = DESCRIPTION.repeat(5);
+    private static final LocalDate SEED_DATE = LocalDate.of(2026, 1, 1);
+
+    private BenchmarkData() {
+    }
+
+    static Book book(int id) {
+        return Book.builder()
+                .id(id)
+                .title("Book " + id)
+                .description(DESCRIPTION)
+                .pageCount(id * 100)
+                .excerpt(EXCERPT)
+                .publishDate(SEED_DATE.minusDays(id) + "T00:00:00.000Z")
+                .build();
+    }
+
+    static Author author(int id) {
+        return Author.builder()
+                .id(id)
+                .idBook((id - 1) / 2 + 1)
+                .firstName("First Name " + id)
+                .lastName("Last Name " + id)
+                .build();
+    }
+
+    static Book[] books(int count) {
+        Book[] books = new Book[count];
+        for (int i = 0; i < count; i++) {
+            books[i] = book(i + 1);
+        }
+        return books;
+    }
+
+    /**
+     * UTF-8 JSON of {@code value}, as the API would send it.
+     */
+    static byte[] json(Object value) {
+        return GSON.toJson(value).getBytes(StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,66 @@
+package com.bookstore.benchmarks;
+
+import com.bookstore.models.Book;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Serializing and parsing {@code Book[]} payloads of 1k to 100k elements, the shape of {@code GET /Books}
+ * against a large data set.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class BookArrayBenchmark {
+
+    @Param({"1000", "10000", "100000"})
+    private int size;
+
+    private Book[] books;
+    private byte[] json;
+
+    @Setup
+    public void setup() {
+        books = BenchmarkData.books(size);
+        json = BenchmarkData.json(books);
+    }
+
+    @Benchmark
+    public byte[] serialize_gson() {
+        return Mappers.gsonWrite(books);
+    }
+
+    @Benchmark
+    public byte[] serialize_jackson() {
+        return Mappers.jacksonWrite(books);
+    }
+
+    @Benchmark
+    public Book[] parse_gson() {
+        return Mappers.gsonRead(json, Book[].class);
+    }
+
+    @Benchmark
+    public Book[] parse_jackson() {
+        return Mappers.jacksonRead(json, Book[].class);
+    }
+
+    @Benchmark
+    public Book[] parse_restAssured() {
+        return Mappers.restAssuredRead(json, Book[].class);
+    }
+}
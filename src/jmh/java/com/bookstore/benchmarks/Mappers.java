@@ -0,0 +1,63 @@
+package com.bookstore.benchmarks;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.gson.Gson;
+import io.restassured.builder.ResponseBuilder;
+import io.restassured.mapper.ObjectMapperType;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * The mappers under comparison, configured once and shared by all benchmark threads.
+ * <p>
+ * {@code restAssured} goes through {@code Response.as(...)} like the tests do, so it includes RestAssured's own
+ * overhead on top of the mapper. It is pinned to Gson, the mapper RestAssured picks on the test classpath;
+ * left alone it would prefer the Jackson added for this comparison.
+ */
+final class Mappers {
+
+    static final Gson GSON = new Gson();
+    static final ObjectMapper JACKSON = new ObjectMapper()
+            .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+
+    private Mappers() {
+    }
+
+    static byte[] gsonWrite(Object value) {
+        return GSON.toJson(value).getBytes(StandardCharsets.UTF_8);
+    }
+
+    static <T> T gsonRead(byte[] json, Class<T> type) {
+        return GSON.fromJson(new InputStreamReader(new ByteArrayInputStream(json), StandardCharsets.UTF_8), type);
+    }
+
+    static byte[] jacksonWrite(Object value) {
+        try {
+            return JACKSON.writeValueAsBytes(value);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    static <T> T jacksonRead(byte[] json, Class<T> type) {
+        try {
+            return JACKSON.readValue(json, type);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    static <T> T restAssuredRead(byte[] json, Class<T> type) {
+        return new ResponseBuilder()
+                .setStatusCode(200)
+                .setContentType("application/json; charset=utf-8")
+                .setBody(json)
+                .build()
+                .as(type, ObjectMapperType.GSON);
+    }
+}
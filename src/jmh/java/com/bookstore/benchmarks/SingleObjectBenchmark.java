@@ -0,0 +1,92 @@
+package com.bookstore.benchmarks;
+
+import com.bookstore.models.Author;
+import com.bookstore.models.Book;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Serializing a request body and parsing a response for a single {@link Book} or {@link Author},
+ * the shape of every create/update/get-by-id call.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SingleObjectBenchmark {
+
+    private Book book;
+    private Author author;
+    private byte[] bookJson;
+    private byte[] authorJson;
+
+    @Setup
+    public void setup() {
+        book = BenchmarkData.book(42);
+        author = BenchmarkData.author(42);
+        bookJson = BenchmarkData.json(book);
+        authorJson = BenchmarkData.json(author);
+    }
+
+    @Benchmark
+    public byte[] serializeBook_gson() {
+        return Mappers.gsonWrite(book);
+    }
+
+    @Benchmark
+    public byte[] serializeBook_jackson() {
+        return Mappers.jacksonWrite(book);
+    }
+
+    @Benchmark
+    public Book parseBook_gson() {
+        return Mappers.gsonRead(bookJson, Book.class);
+    }
+
+    @Benchmark
+    public Book parseBook_jackson() {
+        return Mappers.jacksonRead(bookJson, Book.class);
+    }
+
+    @Benchmark
+    public Book parseBook_restAssured() {
+        return Mappers.restAssuredRead(bookJson, Book.class);
+    }
+
+    @Benchmark
+    public byte[] serializeAuthor_gson() {
+        return Mappers.gsonWrite(author);
+    }
+
+    @Benchmark
+    public byte[] serializeAuthor_jackson() {
+        return Mappers.jacksonWrite(author);
+    }
+
+    @Benchmark
+    public Author parseAuthor_gson() {
+        return Mappers.gsonRead(authorJson, Author.class);
+    }
+
+    @Benchmark
+    public Author parseAuthor_jackson() {
+        return Mappers.jacksonRead(authorJson, Author.class);
+    }
+
+    @Benchmark
+    public Author parseAuthor_restAssured() {
+        return Mappers.restAssuredRead(authorJson, Author.class);
+    }
+}
@@ -0,0 +1,124 @@
+package com.bookstore.cassette;
+
+import com.bookstore.config.Config;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Records HTTP exchanges to, or replays them from, a {@link CassetteFile}.
+ * <p>
+ * In {@link Mode#RECORD} every exchange is kept in memory under its {@link ExchangeKey} (a repeated request
+ * keeps its latest response) until {@link #save()} writes the cassette. In {@link Mode#REPLAY} the cassette is
+ * memory-mapped and {@link #replay} answers from it without touching the network. Instances are thread-safe.
+ */
+public final class Cassette {
+
+    public enum Mode {
+        OFF, RECORD, REPLAY;
+
+        static Mode parse(String value) {
+            return value == null || value.isBlank() ? OFF : valueOf(value.trim().toUpperCase(Locale.ROOT));
+        }
+    }
+
+    private static volatile Cassette active;
+
+    private final Mode mode;
+    private final Path file;
+    private final Map<String, RecordedResponse> recorded = new ConcurrentHashMap<>();
+    private final CassetteFile.Reader reader;
+
+    private Cassette(Mode mode, Path file, CassetteFile.Reader reader) {
+        this.mode = mode;
+        this.file = file;
+        this.reader = reader;
+    }
+
+    /**
+     * Empty cassette that collects exchanges until {@link #save()} writes them to {@code file}.
+     */
+    public static Cassette record(Path file) {
+        return new Cassette(Mode.RECORD, file, null);
+    }
+
+    /**
+     * Maps the cassette in {@code file} for replay.
+     */
+    public static Cassette replay(Path file) throws IOException {
+        return new Cassette(Mode.REPLAY, file, CassetteFile.open(file));
+    }
+
+    /**
+     * Cassette selected by {@link Config#CASSETTE_MODE} and {@link Config#CASSETTE_FILE}, shared by all
+     * transports, or {@code null} when the mode is {@code off}.
+     */
+    public static Cassette active() {
+        Cassette cassette = active;
+        if (cassette == null) {
+            synchronized (Cassette.class) {
+                cassette = active;
+                if (cassette == null) {
+                    Mode mode = Mode.parse(Config.CASSETTE_MODE);
+                    if (mode == Mode.OFF) {
+                        return null;
+                    }
+                    Path file = Path.of(Config.CASSETTE_FILE);
+                    try {
+                        cassette = mode == Mode.RECORD ? record(file) : replay(file);
+                    } catch (IOException e) {
+                        throw new UncheckedIOException("Could not open cassette " + file.toAbsolutePath(), e);
+                    }
+                    active = cassette;
+                }
+            }
+        }
+        return cassette;
+    }
+
+    public Mode mode() {
+        return mode;
+    }
+
+    public Path file() {
+        return file;
+    }
+
+    /**
+     * Exchanges recorded so far, or the size of the replayed cassette.
+     */
+    public int size() {
+        return mode == Mode.REPLAY ? reader.size() : recorded.size();
+    }
+
+    public void record(String method, String uri, String requestBody, RecordedResponse response) {
+        recorded.put(ExchangeKey.of(method, uri, requestBody), response);
+    }
+
+    /**
+     * The recorded response to this request.
+     *
+     * @throws CassetteMissException if the cassette holds no such exchange
+     */
+    public RecordedResponse replay(String method, String uri, String requestBody) {
+        RecordedResponse response = reader.find(ExchangeKey.of(method, uri, requestBody));
+        if (response == null) {
+            throw new CassetteMissException(method.toUpperCase(Locale.ROOT), ExchangeKey.pathAndQuery(uri),
+                    file.toString());
+        }
+        return response;
+    }
+
+    /**
+     * Writes the exchanges recorded so far to {@link #file()}; does nothing outside record mode.
+     */
+    public void save() throws IOException {
+        if (mode == Mode.RECORD) {
+            CassetteFile.write(file, Map.copyOf(recorded));
+        }
+    }
+}
@@ -0,0 +1,258 @@
+package com.bookstore.cassette;
+
+import io.restassured.http.Header;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.TreeMap;
+
+/**
+ * Binary cassette format: the recorded exchanges followed by an open-addressing hash index over their keys.
+ * <p>
+ * Layout (big-endian):
+ * <pre>
+ * header   magic "BKC1", version, entry count, slot count, index offset (long)
+ * entries  key, status, status line, headers (name, value)*, body   -- each length-prefixed
+ * index    slot count x (key hash int, entry offset long); offset 0 marks an empty slot
+ * </pre>
+ * The slot count is a power of two at least twice the entry count, so a lookup in a {@link Reader} hashes the
+ * key, probes one or two slots and compares a single stored key, independent of the cassette size. Readers map
+ * the file read-only and decode only the matching entry; nothing is loaded up front.
+ */
+public final class CassetteFile {
+
+    private static final int MAGIC = 0x424B4331; // "BKC1"
+    private static final int VERSION = 1;
+    private static final int HEADER_BYTES = 24;
+    private static final int SLOT_BYTES = 12;
+
+    private CassetteFile() {
+    }
+
+    /**
+     * Writes the exchanges, sorted by key, to {@code file}. The file is replaced atomically.
+     */
+    public static void write(Path file, Map<String, RecordedResponse> exchanges) throws IOException {
+        SortedMap<String, RecordedResponse> sorted = new TreeMap<>(exchanges);
+        int slots = slotCount(sorted.size());
+
+        Path parent = file.toAbsolutePath().getParent();
+        Files.createDirectories(parent);
+        Path temp = file.resolveSibling(file.getFileName() + ".tmp");
+        try {
+            long indexOffset = writeEntriesAndIndex(temp, sorted, slots);
+            try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.WRITE)) {
+                channel.write(ByteBuffer.allocate(Long.BYTES).putLong(0, indexOffset), HEADER_BYTES - Long.BYTES);
+            }
+            Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(temp);
+            throw e;
+        }
+    }
+
+    /**
+     * Writes header, entries and index; returns the index offset, which the header still lacks.
+     */
+    private static long writeEntriesAndIndex(Path temp, SortedMap<String, RecordedResponse> sorted, int slots)
+            throws IOException {
+        int[] hashes = new int[sorted.size()];
+        long[] offsets = new long[sorted.size()];
+        try (CountingOutputStream counter = new CountingOutputStream(
+                new BufferedOutputStream(Files.newOutputStream(temp), 1 << 16));
+             DataOutputStream out = new DataOutputStream(counter)) {
+            out.writeInt(MAGIC);
+            out.writeInt(VERSION);
+            out.writeInt(sorted.size());
+            out.writeInt(slots);
+            out.writeLong(0); // index offset, patched once known
+
+            int i = 0;
+            for (Map.Entry<String, RecordedResponse> entry : sorted.entrySet()) {
+                byte[] key = entry.getKey().getBytes(StandardCharsets.UTF_8);
+                hashes[i] = hash(key);
+                offsets[i] = counter.count;
+                writeEntry(out, key, entry.getValue());
+                i++;
+            }
+
+            long indexOffset = counter.count;
+            int[] slotHashes = new int[slots];
+            long[] slotOffsets = new long[slots];
+            for (i = 0; i < offsets.length; i++) {
+                int slot = hashes[i] & (slots - 1);
+                while (slotOffsets[slot] != 0) {
+                    slot = (slot + 1) & (slots - 1);
+                }
+                slotHashes[slot] = hashes[i];
+                slotOffsets[slot] = offsets[i];
+            }
+            for (int slot = 0; slot < slots; slot++) {
+                out.writeInt(slotHashes[slot]);
+                out.writeLong(slotOffsets[slot]);
+            }
+            return indexOffset;
+        }
+    }
+
+    /**
+     * Maps {@code file} for lookups. The mapping stays valid after the channel is closed.
+     */
+    public static Reader open(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size > Integer.MAX_VALUE) {
+                throw new IOException("Cassette " + file + " is larger than 2 GB");
+            }
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+            if (size < HEADER_BYTES || buffer.getInt(0) != MAGIC) {
+                throw new IOException(file + " is not a cassette file");
+            }
+            if (buffer.getInt(4) != VERSION) {
+                throw new IOException("Unsupported cassette version " + buffer.getInt(4) + " in " + file);
+            }
+            return new Reader(buffer, buffer.getInt(8), buffer.getInt(12), buffer.getLong(16));
+        }
+    }
+
+    /**
+     * Read-only view of a mapped cassette. Lookups use absolute reads only, so a reader is thread-safe.
+     */
+    public static final class Reader {
+        private final ByteBuffer buffer;
+        private final int size;
+        private final int slots;
+        private final int indexOffset;
+
+        private Reader(ByteBuffer buffer, int size, int slots, long indexOffset) {
+            this.buffer = buffer;
+            this.size = size;
+            this.slots = slots;
+            this.indexOffset = (int) indexOffset;
+        }
+
+        public int size() {
+            return size;
+        }
+
+        /**
+         * The exchange recorded under {@code key}, or {@code null} if there is none.
+         */
+        public RecordedResponse find(String key) {
+            byte[] wanted = key.getBytes(StandardCharsets.UTF_8);
+            int hash = hash(wanted);
+            for (int probe = 0, slot = hash & (slots - 1); probe < slots; probe++, slot = (slot + 1) & (slots - 1)) {
+                int slotAt = indexOffset + slot * SLOT_BYTES;
+                long offset = buffer.getLong(slotAt + Integer.BYTES);
+                if (offset == 0) {
+                    return null;
+                }
+                if (buffer.getInt(slotAt) == hash && keyEquals((int) offset, wanted)) {
+                    return readEntry((int) offset + Integer.BYTES + wanted.length);
+                }
+            }
+            return null;
+        }
+
+        private boolean keyEquals(int offset, byte[] wanted) {
+            if (buffer.getInt(offset) != wanted.length) {
+                return false;
+            }
+            byte[] stored = new byte[wanted.length];
+            buffer.get(offset + Integer.BYTES, stored);
+            return Arrays.equals(stored, wanted);
+        }
+
+        private RecordedResponse readEntry(int position) {
+            int status = buffer.getInt(position);
+            position += Integer.BYTES;
+            String statusLine = readString(position);
+            position += Integer.BYTES + buffer.getInt(position);
+            int headerCount = buffer.getInt(position);
+            position += Integer.BYTES;
+            List<Header> headers = new ArrayList<>(headerCount);
+            for (int i = 0; i < headerCount; i++) {
+                String name = readString(position);
+                position += Integer.BYTES + buffer.getInt(position);
+                String value = readString(position);
+                position += Integer.BYTES + buffer.getInt(position);
+                headers.add(new Header(name, value));
+            }
+            byte[] body = new byte[buffer.getInt(position)];
+            buffer.get(position + Integer.BYTES, body);
+            return new RecordedResponse(status, statusLine, headers, body);
+        }
+
+        private String readString(int position) {
+            byte[] bytes = new byte[buffer.getInt(position)];
+            buffer.get(position + Integer.BYTES, bytes);
+            return new String(bytes, StandardCharsets.UTF_8);
+        }
+    }
+
+    private static void writeEntry(DataOutputStream out, byte[] key, RecordedResponse response) throws IOException {
+        writeBytes(out, key);
+        out.writeInt(response.status());
+        writeString(out, response.statusLine());
+        out.writeInt(response.headers().size());
+        for (Header header : response.headers()) {
+            writeString(out, header.getName());
+            writeString(out, header.getValue());
+        }
+        writeBytes(out, response.body());
+    }
+
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        writeBytes(out, (value == null ? "" : value).getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static void writeBytes(DataOutputStream out, byte[] bytes) throws IOException {
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private static int slotCount(int entries) {
+        return Math.max(16, Integer.highestOneBit(Math.max(1, entries) * 2 - 1) << 1);
+    }
+
+    private static int hash(byte[] key) {
+        int hash = Arrays.hashCode(key) * 0x9E3779B9;
+        return hash ^ (hash >>> 16);
+    }
+
+    private static final class CountingOutputStream extends FilterOutputStream {
+        long count;
+
+        CountingOutputStream(OutputStream out) {
+            super(out);
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            out.write(b);
+            count++;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            out.write(b, off, len);
+            count += len;
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package com.bookstore.cassette;
+
+import io.restassured.filter.Filter;
+import io.restassured.filter.FilterContext;
+import io.restassured.response.Response;
+import io.restassured.specification.FilterableRequestSpecification;
+import io.restassured.specification.FilterableResponseSpecification;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Routes RestAssured exchanges through a {@link Cassette}: in record mode every response that reaches this
+ * filter is stored (its body is read to do so), in replay mode the recorded response is returned and the
+ * request never leaves the process.
+ */
+public final class CassetteFilter implements Filter {
+
+    private final Cassette cassette;
+
+    public CassetteFilter(Cassette cassette) {
+        this.cassette = cassette;
+    }
+
+    @Override
+    public Response filter(FilterableRequestSpecification requestSpec,
+                           FilterableResponseSpecification responseSpec,
+                           FilterContext ctx) {
+        String method = requestSpec.getMethod();
+        String uri = requestSpec.getURI();
+        String body = bodyOf(requestSpec);
+        if (cassette.mode() == Cassette.Mode.REPLAY) {
+            return cassette.replay(method, uri, body).toResponse();
+        }
+        Response response = ctx.next(requestSpec, responseSpec);
+        cassette.record(method, uri, body, RecordedResponse.of(response));
+        return response;
+    }
+
+    private static String bodyOf(FilterableRequestSpecification requestSpec) {
+        Object body = requestSpec.getBody();
+        if (body instanceof byte[] bytes) {
+            return new String(bytes, StandardCharsets.UTF_8);
+        }
+        return body == null ? null : body.toString();
+    }
+}
@@ -0,0 +1,14 @@
+package com.bookstore.cassette;
+
+/**
+ * Thrown in replay mode for a request the cassette has no recording of.
+ */
+public class CassetteMissException extends RuntimeException {
+
+    private static final long serialVersionUID = 1L;
+
+    public CassetteMissException(String method, String pathAndQuery, String cassette) {
+        super("No recorded exchange for " + method + " " + pathAndQuery + " in cassette " + cassette
+                + "; record it again with -Dbookstore.cassette=record");
+    }
+}
@@ -0,0 +1,68 @@
+package com.bookstore.cassette;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParseException;
+import com.google.gson.JsonParser;
+
+import java.net.URI;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Lookup key of an exchange: method, path with query, and the request body in a normalized form.
+ * <p>
+ * JSON bodies are re-serialized compactly with object members sorted by name, so field order and
+ * whitespace do not change the key. Other bodies are only trimmed. The host is not part of the key:
+ * a cassette recorded against one base URL replays for any other.
+ */
+final class ExchangeKey {
+
+    private static final Gson GSON = new GsonBuilder().serializeNulls().disableHtmlEscaping().create();
+
+    private ExchangeKey() {
+    }
+
+    static String of(String method, String uri, String body) {
+        return method.toUpperCase(Locale.ROOT) + ' ' + pathAndQuery(uri) + '\n' + normalize(body);
+    }
+
+    static String pathAndQuery(String uri) {
+        URI parsed = URI.create(uri);
+        String path = parsed.getRawPath() == null || parsed.getRawPath().isEmpty() ? "/" : parsed.getRawPath();
+        return parsed.getRawQuery() == null ? path : path + '?' + parsed.getRawQuery();
+    }
+
+    static String normalize(String body) {
+        if (body == null || body.isBlank()) {
+            return "";
+        }
+        try {
+            return GSON.toJson(sorted(JsonParser.parseString(body)));
+        } catch (JsonParseException e) {
+            return body.trim();
+        }
+    }
+
+    private static JsonElement sorted(JsonElement element) {
+        if (element.isJsonObject()) {
+            Map<String, JsonElement> members = new TreeMap<>();
+            for (Map.Entry<String, JsonElement> member : element.getAsJsonObject().entrySet()) {
+                members.put(member.getKey(), sorted(member.getValue()));
+            }
+            JsonObject result = new JsonObject();
+            members.forEach(result::add);
+            return result;
+        }
+        if (element.isJsonArray()) {
+            JsonArray result = new JsonArray();
+            element.getAsJsonArray().forEach(item -> result.add(sorted(item)));
+            return result;
+        }
+        return element;
+    }
+}
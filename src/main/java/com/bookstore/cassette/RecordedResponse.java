@@ -0,0 +1,43 @@
+package com.bookstore.cassette;
+
+import io.restassured.builder.ResponseBuilder;
+import io.restassured.http.Header;
+import io.restassured.http.Headers;
+import io.restassured.response.Response;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Response half of a recorded exchange: status, headers in received order, and the raw body.
+ */
+public record RecordedResponse(int status, String statusLine, List<Header> headers, byte[] body) {
+
+    /**
+     * Captures a RestAssured response; reads (and thereby buffers) its body.
+     */
+    public static RecordedResponse of(Response response) {
+        List<Header> headers = new ArrayList<>();
+        response.getHeaders().forEach(headers::add);
+        return new RecordedResponse(response.getStatusCode(), response.getStatusLine(), headers,
+                response.asByteArray());
+    }
+
+    /**
+     * A fresh RestAssured response with the recorded status, headers and body.
+     */
+    public Response toResponse() {
+        String contentType = headers.stream()
+                .filter(header -> header.getName().equalsIgnoreCase("Content-Type"))
+                .map(Header::getValue)
+                .findFirst()
+                .orElse("");
+        return new ResponseBuilder()
+                .setStatusCode(status)
+                .setStatusLine(statusLine)
+                .setHeaders(new Headers(headers))
+                .setContentType(contentType)
+                .setBody(body)
+                .build();
+    }
+}
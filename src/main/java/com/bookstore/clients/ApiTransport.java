@@ -0,0 +1,266 @@
+package com.bookstore.clients;
+
+import com.bookstore.cassette.Cassette;
+import com.bookstore.cassette.CassetteFilter;
+import com.bookstore.config.Config;
+import com.bookstore.config.Environment;
+import com.bookstore.metrics.EndpointMetrics;
+import com.bookstore.metrics.MetricsFilter;
+import com.bookstore.schema.SchemaValidationFilter;
+import io.restassured.builder.RequestSpecBuilder;
+import io.restassured.config.HttpClientConfig;
+import io.restassured.config.RestAssuredConfig;
+import io.restassured.filter.FilterContext;
+import io.restassured.filter.log.RequestLoggingFilter;
+import io.restassured.filter.log.ResponseLoggingFilter;
+import io.restassured.response.Response;
+import io.restassured.specification.FilterableRequestSpecification;
+import io.restassured.specification.FilterableResponseSpecification;
+import io.restassured.specification.RequestSpecification;
+import org.apache.http.HttpEntity;
+import org.apache.http.HttpHost;
+import org.apache.http.client.params.ClientPNames;
+import org.apache.http.conn.ClientConnectionOperator;
+import org.apache.http.conn.ConnectionKeepAliveStrategy;
+import org.apache.http.conn.OperatedClientConnection;
+import org.apache.http.conn.scheme.SchemeRegistry;
+import org.apache.http.impl.client.DefaultConnectionKeepAliveStrategy;
+import org.apache.http.impl.client.DefaultHttpClient;
+import org.apache.http.impl.client.RequestWrapper;
+import org.apache.http.impl.conn.DefaultClientConnectionOperator;
+import org.apache.http.impl.conn.PoolingClientConnectionManager;
+import org.apache.http.impl.conn.SchemeRegistryFactory;
+import org.apache.http.params.HttpConnectionParams;
+import org.apache.http.params.HttpParams;
+import org.apache.http.params.SyncBasicHttpParams;
+import org.apache.http.protocol.HttpContext;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Shared HTTP transport behind {@link BooksClient} and {@link AuthorsClient}: one pooled, keep-alive HTTP client
+ * per base URL, with the configured connection and socket timeouts, and a prebuilt request specification. Its
+ * filters run in this order, outermost first:
+ * <ol>
+ *     <li>{@link SchemaValidationFilter}, with {@link Config#SCHEMA_VALIDATION}</li>
+ *     <li>{@link ExchangeCapture}</li>
+ *     <li>request and response logging, when {@link Config#HTTP_LOG_MODE} is {@code all}</li>
+ *     <li>{@link CassetteFilter}, while a {@link Cassette#active() cassette} is active</li>
+ *     <li>{@link ResponseCache}, with {@link Config#CACHE_ENABLED}</li>
+ *     <li>{@link CircuitBreaker}, unless {@link Config#BREAKER_ENABLED} is off</li>
+ *     <li>{@link MetricsFilter}, timing the exchanges that reach the network</li>
+ *     <li>reading the body, which returns the connection to the pool</li>
+ * </ol>
+ * The {@link #streamingRequestSpec() streaming} specification runs the same chain without the schema check, the
+ * cache and the body read. Instances are thread-safe.
+ */
+@SuppressWarnings("deprecation") // RestAssured 5 still requires the HttpClient 4.x AbstractHttpClient API
+public final class ApiTransport {
+
+    private static volatile ApiTransport shared;
+    private static final ConcurrentMap<String, ApiTransport> BY_ENVIRONMENT = new ConcurrentHashMap<>();
+
+    private final String baseUrl;
+    private final PoolingClientConnectionManager connectionManager;
+    private final RequestSpecification requestSpec;
+    private final RequestSpecification streamingRequestSpec;
+    private final ResponseCache cache;
+    private final CircuitBreaker breaker;
+
+    public ApiTransport(String baseUrl) {
+        this(baseUrl, null);
+    }
+
+    /**
+     * Transport whose exchanges are also recorded in {@code scopedMetrics}, unless {@code null}.
+     */
+    public ApiTransport(String baseUrl, EndpointMetrics scopedMetrics) {
+        this.baseUrl = baseUrl;
+
+        connectionManager = new PoolingClientConnectionManager(
+                SchemeRegistryFactory.createSystemDefault(), Config.POOL_KEEP_ALIVE_MS, TimeUnit.MILLISECONDS) {
+            @Override
+            protected ClientConnectionOperator createConnectionOperator(SchemeRegistry schemes) {
+                return timedConnectionOperator(schemes);
+            }
+        };
+        connectionManager.setMaxTotal(Config.POOL_MAX_TOTAL);
+        connectionManager.setDefaultMaxPerRoute(Config.POOL_MAX_PER_ROUTE);
+
+        DefaultHttpClient httpClient = new DefaultHttpClient(connectionManager, clientParams());
+        httpClient.setKeepAliveStrategy(keepAliveStrategy());
+        // Time-to-first-byte marks for MetricsFilter; both run on the requesting thread
+        httpClient.addRequestInterceptor((request, context) -> MetricsFilter.markRequestSent());
+        httpClient.addResponseInterceptor((response, context) -> MetricsFilter.markFirstByte());
+        // Lets a hedged GET abort the request of the attempt that lost
+        httpClient.addRequestInterceptor((request, context) ->
+                Hedging.bind(request instanceof RequestWrapper wrapper ? wrapper.getOriginal() : request));
+        // An empty body is never read by RestAssured, which would keep the connection leased; drop it up front
+        httpClient.addResponseInterceptor((response, context) -> {
+            HttpEntity entity = response.getEntity();
+            if (entity != null && entity.getContentLength() == 0) {
+                response.setEntity(null);
+            }
+        });
+
+        HttpClientConfig httpClientConfig = HttpClientConfig.httpClientConfig()
+                .reuseHttpClientInstance()
+                .httpClientFactory(() -> httpClient);
+
+        // Inside the cassette and cache filters, so replayed and cached responses never reach the breaker
+        breaker = Config.BREAKER_ENABLED ? CircuitBreaker.fromConfig(baseUrl) : null;
+
+        RequestSpecBuilder streamingSpecBuilder = specBuilder(httpClientConfig, false);
+        if (breaker != null) {
+            streamingSpecBuilder.addFilter(breaker);
+        }
+        streamingRequestSpec = streamingSpecBuilder
+                .addFilter(new MetricsFilter(EndpointMetrics.global(), scopedMetrics, false))
+                .build();
+        RequestSpecBuilder specBuilder = specBuilder(httpClientConfig, Config.SCHEMA_VALIDATION);
+        if (Config.CACHE_ENABLED) {
+            cache = new ResponseCache(Config.CACHE_SIZE, Config.CACHE_TTL_MS);
+            specBuilder.addFilter(cache);
+        } else {
+            cache = null;
+        }
+        if (breaker != null) {
+            specBuilder.addFilter(breaker);
+        }
+        requestSpec = specBuilder
+                .addFilter(new MetricsFilter(EndpointMetrics.global(), scopedMetrics, true))
+                .addFilter(ApiTransport::readBody)
+                .build();
+    }
+
+    private RequestSpecBuilder specBuilder(HttpClientConfig httpClientConfig, boolean validateSchemas) {
+        RequestSpecBuilder specBuilder = new RequestSpecBuilder()
+                .setBaseUri(baseUrl)
+                .setConfig(RestAssuredConfig.config().httpClient(httpClientConfig));
+        if (validateSchemas) {
+            specBuilder.addFilter(new SchemaValidationFilter());
+        }
+        specBuilder.addFilter(new ExchangeCapture());
+        if ("all".equalsIgnoreCase(Config.HTTP_LOG_MODE)) {
+            specBuilder.addFilter(new RequestLoggingFilter()).addFilter(new ResponseLoggingFilter());
+        }
+        Cassette cassette = Cassette.active();
+        if (cassette != null) {
+            specBuilder.addFilter(new CassetteFilter(cassette));
+        }
+        return specBuilder;
+    }
+
+    /**
+     * Transport for {@link Config#baseUrl()}, created on first use and shared by all default clients.
+     */
+    public static ApiTransport shared() {
+        ApiTransport transport = shared;
+        if (transport == null) {
+            synchronized (ApiTransport.class) {
+                transport = shared;
+                if (transport == null) {
+                    transport = new ApiTransport(Config.baseUrl());
+                    shared = transport;
+                }
+            }
+        }
+        return transport;
+    }
+
+    /**
+     * Transport for one environment of a fan-out run, created on first use and shared by all its clients. Its
+     * exchanges are also recorded in {@link EndpointMetrics#environment(String)}.
+     */
+    public static ApiTransport forEnvironment(Environment environment) {
+        return BY_ENVIRONMENT.computeIfAbsent(environment.name(), name ->
+                new ApiTransport(environment.baseUrl(), EndpointMetrics.environment(name)));
+    }
+
+    public String baseUrl() {
+        return baseUrl;
+    }
+
+    /**
+     * Prebuilt specification carrying the base URI and pooled client. Use it via {@code given().spec(...)};
+     * it must not be modified directly.
+     */
+    public RequestSpecification requestSpec() {
+        return requestSpec;
+    }
+
+    /**
+     * Like {@link #requestSpec()}, but response bodies are left unread so they can be consumed as a stream,
+     * e.g. with {@link ResponseStreams}. The pooled connection stays leased until the body is read or closed.
+     */
+    public RequestSpecification streamingRequestSpec() {
+        return streamingRequestSpec;
+    }
+
+    /**
+     * GET response cache of this transport, or {@code null} unless {@link Config#CACHE_ENABLED} is set.
+     */
+    public ResponseCache cache() {
+        return cache;
+    }
+
+    /**
+     * Circuit breaker of this transport, or {@code null} when {@link Config#BREAKER_ENABLED} is off.
+     */
+    public CircuitBreaker circuitBreaker() {
+        return breaker;
+    }
+
+    public void close() {
+        connectionManager.shutdown();
+    }
+
+    /**
+     * RestAssured streams the body lazily and keeps the pooled connection leased until someone reads it.
+     * Reading it here (the content is cached) returns the connection as soon as the call completes.
+     */
+    private static Response readBody(FilterableRequestSpecification requestSpec,
+                                     FilterableResponseSpecification responseSpec,
+                                     FilterContext ctx) {
+        Response response = ctx.next(requestSpec, responseSpec);
+        response.asByteArray();
+        return response;
+    }
+
+    /**
+     * Default operator that reports how long opening each new connection took to {@link MetricsFilter}.
+     */
+    private static ClientConnectionOperator timedConnectionOperator(SchemeRegistry schemes) {
+        return new DefaultClientConnectionOperator(schemes) {
+            @Override
+            public void openConnection(OperatedClientConnection conn, HttpHost target, InetAddress local,
+                                       HttpContext context, HttpParams params) throws IOException {
+                long start = System.nanoTime();
+                super.openConnection(conn, target, local, context, params);
+                MetricsFilter.recordConnect(System.nanoTime() - start);
+            }
+        };
+    }
+
+    private static HttpParams clientParams() {
+        HttpParams params = new SyncBasicHttpParams();
+        DefaultHttpClient.setDefaultHttpParams(params);
+        HttpConnectionParams.setConnectionTimeout(params, Config.CONNECTION_TIMEOUT);
+        HttpConnectionParams.setSoTimeout(params, Config.SOCKET_TIMEOUT);
+        // Waiting for a free pooled connection is bounded by the connect timeout as well
+        params.setLongParameter(ClientPNames.CONN_MANAGER_TIMEOUT, Config.CONNECTION_TIMEOUT);
+        return params;
+    }
+
+    private static ConnectionKeepAliveStrategy keepAliveStrategy() {
+        DefaultConnectionKeepAliveStrategy serverHint = DefaultConnectionKeepAliveStrategy.INSTANCE;
+        return (response, context) -> {
+            long keepAlive = serverHint.getKeepAliveDuration(response, context);
+            return keepAlive > 0 ? Math.min(keepAlive, Config.POOL_KEEP_ALIVE_MS) : Config.POOL_KEEP_ALIVE_MS;
+        };
+    }
+}
@@ -0,0 +1,53 @@
+package com.bookstore.clients;
+
+import com.bookstore.config.Config;
+import com.bookstore.models.Author;
+import com.bookstore.models.ImmutableAuthor;
+import io.restassured.response.Response;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Non-blocking counterpart of {@link AuthorsClient}: every call returns immediately and completes
+ * when the response arrives.
+ */
+public class AsyncAuthorsClient {
+
+    private final AsyncTransport transport;
+
+    public AsyncAuthorsClient() {
+        this(AsyncTransport.shared());
+    }
+
+    public AsyncAuthorsClient(AsyncTransport transport) {
+        this.transport = transport;
+    }
+
+    public CompletableFuture<Response> getAllAuthors() {
+        return transport.get(Config.AUTHORS_ENDPOINT);
+    }
+
+    public CompletableFuture<Response> getAuthorById(int id) {
+        return transport.get(Config.AUTHORS_ENDPOINT + "/" + id);
+    }
+
+    public CompletableFuture<Response> createAuthor(Author author) {
+        return transport.post(Config.AUTHORS_ENDPOINT, author);
+    }
+
+    public CompletableFuture<Response> updateAuthor(int id, Author author) {
+        return transport.put(Config.AUTHORS_ENDPOINT + "/" + id, author);
+    }
+
+    public CompletableFuture<Response> createAuthor(ImmutableAuthor author) {
+        return transport.postJson(Config.AUTHORS_ENDPOINT, author.jsonBytes());
+    }
+
+    public CompletableFuture<Response> updateAuthor(int id, ImmutableAuthor author) {
+        return transport.putJson(Config.AUTHORS_ENDPOINT + "/" + id, author.jsonBytes());
+    }
+
+    public CompletableFuture<Response> deleteAuthor(int id) {
+        return transport.delete(Config.AUTHORS_ENDPOINT + "/" + id);
+    }
+}
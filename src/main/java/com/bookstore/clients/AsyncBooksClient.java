@@ -0,0 +1,53 @@
+package com.bookstore.clients;
+
+import com.bookstore.config.Config;
+import com.bookstore.models.Book;
+import com.bookstore.models.ImmutableBook;
+import io.restassured.response.Response;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Non-blocking counterpart of {@link BooksClient}: every call returns immediately and completes
+ * when the response arrives.
+ */
+public class AsyncBooksClient {
+
+    private final AsyncTransport transport;
+
+    public AsyncBooksClient() {
+        this(AsyncTransport.shared());
+    }
+
+    public AsyncBooksClient(AsyncTransport transport) {
+        this.transport = transport;
+    }
+
+    public CompletableFuture<Response> getAllBooks() {
+        return transport.get(Config.BOOKS_ENDPOINT);
+    }
+
+    public CompletableFuture<Response> getBookById(int id) {
+        return transport.get(Config.BOOKS_ENDPOINT + "/" + id);
+    }
+
+    public CompletableFuture<Response> createBook(Book book) {
+        return transport.post(Config.BOOKS_ENDPOINT, book);
+    }
+
+    public CompletableFuture<Response> updateBook(int id, Book book) {
+        return transport.put(Config.BOOKS_ENDPOINT + "/" + id, book);
+    }
+
+    public CompletableFuture<Response> createBook(ImmutableBook book) {
+        return transport.postJson(Config.BOOKS_ENDPOINT, book.jsonBytes());
+    }
+
+    public CompletableFuture<Response> updateBook(int id, ImmutableBook book) {
+        return transport.putJson(Config.BOOKS_ENDPOINT + "/" + id, book.jsonBytes());
+    }
+
+    public CompletableFuture<Response> deleteBook(int id) {
+        return transport.delete(Config.BOOKS_ENDPOINT + "/" + id);
+    }
+}
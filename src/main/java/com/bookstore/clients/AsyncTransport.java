@@ -0,0 +1,197 @@
+package com.bookstore.clients;
+
+import com.bookstore.cassette.Cassette;
+import com.bookstore.cassette.CassetteMissException;
+import com.bookstore.cassette.RecordedResponse;
+import com.bookstore.config.Config;
+import com.bookstore.config.Environment;
+import com.bookstore.jfr.HttpExchangeEvent;
+import com.bookstore.metrics.StartupTimes;
+import com.bookstore.schema.ResponseContracts;
+import com.google.gson.Gson;
+import io.restassured.builder.ResponseBuilder;
+import io.restassured.http.Header;
+import io.restassured.http.Headers;
+import io.restassured.response.Response;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executors;
+
+/**
+ * Non-blocking HTTP transport behind {@link AsyncBooksClient} and {@link AsyncAuthorsClient}.
+ * <p>
+ * Built on the JDK {@link HttpClient}, so requests in flight do not hold a thread while waiting for the server.
+ * Responses are converted to RestAssured {@link Response} objects, which keeps assertions identical to the
+ * blocking clients. Like {@link ApiTransport}, it records to or replays from the {@link Cassette#active()}
+ * cassette, and checks responses against their {@link ResponseContracts contract} when
+ * {@link Config#SCHEMA_VALIDATION} is on. Instances are thread-safe.
+ */
+public final class AsyncTransport {
+
+    private static final Gson GSON = new Gson();
+    private static volatile AsyncTransport shared;
+    private static final ConcurrentMap<String, AsyncTransport> BY_ENVIRONMENT = new ConcurrentHashMap<>();
+
+    private final String baseUrl;
+    private final HttpClient httpClient;
+    private final Cassette cassette;
+
+    public AsyncTransport(String baseUrl) {
+        this.baseUrl = baseUrl;
+        this.cassette = Cassette.active();
+        this.httpClient = HttpClient.newBuilder()
+                .connectTimeout(Duration.ofMillis(Config.CONNECTION_TIMEOUT))
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .build();
+    }
+
+    /**
+     * Transport for {@link Config#baseUrl()}, created on first use and shared by all default async clients.
+     */
+    public static AsyncTransport shared() {
+        AsyncTransport transport = shared;
+        if (transport == null) {
+            synchronized (AsyncTransport.class) {
+                transport = shared;
+                if (transport == null) {
+                    transport = new AsyncTransport(Config.baseUrl());
+                    shared = transport;
+                }
+            }
+        }
+        return transport;
+    }
+
+    /**
+     * Transport for one environment of a fan-out run, created on first use and shared by all its async clients.
+     */
+    public static AsyncTransport forEnvironment(Environment environment) {
+        return BY_ENVIRONMENT.computeIfAbsent(environment.name(), name -> new AsyncTransport(environment.baseUrl()));
+    }
+
+    public String baseUrl() {
+        return baseUrl;
+    }
+
+    public CompletableFuture<Response> get(String path) {
+        return send("GET", path, null, request(path).GET());
+    }
+
+    public CompletableFuture<Response> post(String path, Object body) {
+        String json = GSON.toJson(body);
+        return send("POST", path, json,
+                request(path).header("Content-Type", "application/json").POST(jsonBody(json)));
+    }
+
+    public CompletableFuture<Response> put(String path, Object body) {
+        String json = GSON.toJson(body);
+        return send("PUT", path, json,
+                request(path).header("Content-Type", "application/json").PUT(jsonBody(json)));
+    }
+
+    /**
+     * POSTs an already encoded JSON body as is.
+     */
+    public CompletableFuture<Response> postJson(String path, byte[] json) {
+        return send("POST", path, cassetteBody(json),
+                request(path).header("Content-Type", "application/json").POST(jsonBody(json)));
+    }
+
+    /**
+     * PUTs an already encoded JSON body as is.
+     */
+    public CompletableFuture<Response> putJson(String path, byte[] json) {
+        return send("PUT", path, cassetteBody(json),
+                request(path).header("Content-Type", "application/json").PUT(jsonBody(json)));
+    }
+
+    public CompletableFuture<Response> delete(String path) {
+        return send("DELETE", path, null, request(path).DELETE());
+    }
+
+    private HttpRequest.Builder request(String path) {
+        return HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .timeout(Duration.ofMillis(Config.SOCKET_TIMEOUT))
+                .header("Accept", "*/*");
+    }
+
+    private static HttpRequest.BodyPublisher jsonBody(String json) {
+        return HttpRequest.BodyPublishers.ofString(json);
+    }
+
+    private static HttpRequest.BodyPublisher jsonBody(byte[] json) {
+        return HttpRequest.BodyPublishers.ofByteArray(json);
+    }
+
+    /**
+     * Request body as the cassette keys it; only decoded when a cassette is active.
+     */
+    private String cassetteBody(byte[] json) {
+        return cassette == null ? null : new String(json, StandardCharsets.UTF_8);
+    }
+
+    private CompletableFuture<Response> send(String method, String path, String body, HttpRequest.Builder request) {
+        CompletableFuture<Response> response = exchange(method, path, body, request);
+        if (!Config.SCHEMA_VALIDATION) {
+            return response;
+        }
+        return response.thenApply(received -> {
+            ResponseContracts.check(method, path, received);
+            return received;
+        });
+    }
+
+    private CompletableFuture<Response> exchange(String method, String path, String body,
+                                                 HttpRequest.Builder request) {
+        if (cassette != null && cassette.mode() == Cassette.Mode.REPLAY) {
+            try {
+                return CompletableFuture.completedFuture(cassette.replay(method, baseUrl + path, body).toResponse());
+            } catch (CassetteMissException e) {
+                return CompletableFuture.failedFuture(e);
+            }
+        }
+        HttpRequest built = request.build();
+        long sent = built.bodyPublisher().map(HttpRequest.BodyPublisher::contentLength).orElse(0L);
+        StartupTimes.markFirstRequest();
+        HttpExchangeEvent event = new HttpExchangeEvent();
+        event.begin();
+        CompletableFuture<Response> response = httpClient
+                .sendAsync(built, HttpResponse.BodyHandlers.ofByteArray())
+                .whenComplete((received, failure) -> event.complete(method, method + " " + path,
+                        received == null ? 0 : received.statusCode(), sent,
+                        received == null ? 0 : received.body().length, -1, -1, failure))
+                .thenApply(AsyncTransport::toResponse);
+        if (cassette != null && cassette.mode() == Cassette.Mode.RECORD) {
+            return response.thenApply(received -> {
+                cassette.record(method, baseUrl + path, body, RecordedResponse.of(received));
+                return received;
+            });
+        }
+        return response;
+    }
+
+    private static Response toResponse(HttpResponse<byte[]> httpResponse) {
+        List<Header> headers = new ArrayList<>();
+        httpResponse.headers().map().forEach((name, values) ->
+                values.forEach(value -> headers.add(new Header(name, value))));
+        String contentType = httpResponse.headers().firstValue("Content-Type").orElse("application/json");
+        return new ResponseBuilder()
+                .setStatusCode(httpResponse.statusCode())
+                .setStatusLine((httpResponse.version() == HttpClient.Version.HTTP_2 ? "HTTP/2 " : "HTTP/1.1 ")
+                        + httpResponse.statusCode())
+                .setHeaders(new Headers(headers))
+                .setContentType(contentType)
+                .setBody(httpResponse.body())
+                .build();
+    }
+}
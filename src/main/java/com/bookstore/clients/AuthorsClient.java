@@ -2,79 +2,156 @@ package com.bookstore.clients;
 
 import com.bookstore.config.Config;
 import com.bookstore.models.Author;
+import com.bookstore.models.ImmutableAuthor;
 import io.qameta.allure.Step;
 import io.restassured.response.Response;
 
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
 import static io.restassured.RestAssured.given;
 
 public class AuthorsClient {
 
+    private final ApiTransport transport;
+
+    public AuthorsClient() {
+        this(ApiTransport.shared());
+    }
+
+    public AuthorsClient(ApiTransport transport) {
+        this.transport = transport;
+    }
+
     @Step("Get all authors")
     public Response getAllAuthors() {
+        return Hedging.get(Config.AUTHORS_ENDPOINT, () -> given()
+                .spec(transport.requestSpec())
+                .basePath(Config.AUTHORS_ENDPOINT)
+                .when()
+                .get()
+                .then()
+                .extract().response());
+    }
+
+    /**
+     * Same request as {@link #getAllAuthors()}, but the body is left unread for
+     * {@link ResponseStreams#elements(Response, Class)}; close the stream to release the connection.
+     */
+    @Step("Stream all authors")
+    public Response streamAllAuthors() {
         return given()
-                .baseUri(Config.BASE_URL)
+                .spec(transport.streamingRequestSpec())
                 .basePath(Config.AUTHORS_ENDPOINT)
-                .log().all()
                 .when()
                 .get()
                 .then()
-                .log().all()
                 .extract().response();
     }
 
     @Step("Get author by ID: {id}")
     public Response getAuthorById(int id) {
-        return given()
-                .baseUri(Config.BASE_URL)
-                .basePath(Config.AUTHORS_ENDPOINT + "/" + id)
-                .log().all()
+        return Hedging.get(Config.AUTHORS_ENDPOINT + "/{id}", () -> given()
+                .spec(transport.requestSpec())
+                .basePath(Config.AUTHORS_ENDPOINT)
                 .when()
-                .get()
+                .get("/{id}", id)
                 .then()
-                .log().all()
-                .extract().response();
+                .extract().response());
     }
 
     @Step("Create new author")
     public Response createAuthor(Author author) {
         return given()
-                .baseUri(Config.BASE_URL)
+                .spec(transport.requestSpec())
                 .basePath(Config.AUTHORS_ENDPOINT)
                 .header("Content-Type", "application/json")
                 .body(author)
-                .log().all()
                 .when()
                 .post()
                 .then()
-                .log().all()
                 .extract().response();
     }
 
     @Step("Update author with ID: {id}")
     public Response updateAuthor(int id, Author author) {
         return given()
-                .baseUri(Config.BASE_URL)
-                .basePath(Config.AUTHORS_ENDPOINT + "/" + id)
+                .spec(transport.requestSpec())
+                .basePath(Config.AUTHORS_ENDPOINT)
                 .header("Content-Type", "application/json")
                 .body(author)
-                .log().all()
                 .when()
-                .put()
+                .put("/{id}", id)
+                .then()
+                .extract().response();
+    }
+
+    /**
+     * Same as {@link #createAuthor(Author)}, but sends the pre-serialized JSON of {@code author} as is.
+     */
+    @Step("Create new author (pre-serialized)")
+    public Response createAuthor(ImmutableAuthor author) {
+        return given()
+                .spec(transport.requestSpec())
+                .basePath(Config.AUTHORS_ENDPOINT)
+                .header("Content-Type", "application/json")
+                .body(author.jsonBytes())
+                .when()
+                .post()
+                .then()
+                .extract().response();
+    }
+
+    /**
+     * Same as {@link #updateAuthor(int, Author)}, but sends the pre-serialized JSON of {@code author} as is.
+     */
+    @Step("Update author with ID: {id} (pre-serialized)")
+    public Response updateAuthor(int id, ImmutableAuthor author) {
+        return given()
+                .spec(transport.requestSpec())
+                .basePath(Config.AUTHORS_ENDPOINT)
+                .header("Content-Type", "application/json")
+                .body(author.jsonBytes())
+                .when()
+                .put("/{id}", id)
                 .then()
-                .log().all()
                 .extract().response();
     }
 
     @Step("Delete author with ID: {id}")
     public Response deleteAuthor(int id) {
         return given()
-                .baseUri(Config.BASE_URL)
-                .basePath(Config.AUTHORS_ENDPOINT + "/" + id)
-                .log().all()
+                .spec(transport.requestSpec())
+                .basePath(Config.AUTHORS_ENDPOINT)
                 .when()
-                .delete()
+                .delete("/{id}", id)
                 .then()
-                .log().all()
                 .extract().response();
     }
-}
\ No newline at end of file
+
+    /**
+     * Creates all authors, {@link Config#BULK_CONCURRENCY} at a time; outcomes are in list order.
+     */
+    @Step("Create authors in bulk")
+    public List<BulkOutcome> createAuthors(List<Author> authors) {
+        return Bulk.run(authors, this::createAuthor);
+    }
+
+    /**
+     * Updates each author under its id, {@link Config#BULK_CONCURRENCY} at a time; outcomes follow the map's
+     * iteration order.
+     */
+    @Step("Update authors in bulk")
+    public List<BulkOutcome> updateAuthors(Map<Integer, Author> authors) {
+        return Bulk.run(List.copyOf(authors.entrySet()), entry -> updateAuthor(entry.getKey(), entry.getValue()));
+    }
+
+    /**
+     * Deletes all ids, {@link Config#BULK_CONCURRENCY} at a time; outcomes are in argument order.
+     */
+    @Step("Delete authors in bulk")
+    public List<BulkOutcome> deleteAuthors(int... ids) {
+        return Bulk.run(Arrays.stream(ids).boxed().toList(), this::deleteAuthor);
+    }
+}
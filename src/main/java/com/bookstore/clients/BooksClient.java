@@ -2,79 +2,156 @@ package com.bookstore.clients;
 
 import com.bookstore.config.Config;
 import com.bookstore.models.Book;
+import com.bookstore.models.ImmutableBook;
 import io.qameta.allure.Step;
 import io.restassured.response.Response;
 
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
 import static io.restassured.RestAssured.given;
 
 public class BooksClient {
 
+    private final ApiTransport transport;
+
+    public BooksClient() {
+        this(ApiTransport.shared());
+    }
+
+    public BooksClient(ApiTransport transport) {
+        this.transport = transport;
+    }
+
     @Step("Get all books")
     public Response getAllBooks() {
+        return Hedging.get(Config.BOOKS_ENDPOINT, () -> given()
+                .spec(transport.requestSpec())
+                .basePath(Config.BOOKS_ENDPOINT)
+                .when()
+                .get()
+                .then()
+                .extract().response());
+    }
+
+    /**
+     * Same request as {@link #getAllBooks()}, but the body is left unread for
+     * {@link ResponseStreams#elements(Response, Class)}; close the stream to release the connection.
+     */
+    @Step("Stream all books")
+    public Response streamAllBooks() {
         return given()
-                .baseUri(Config.BASE_URL)
+                .spec(transport.streamingRequestSpec())
                 .basePath(Config.BOOKS_ENDPOINT)
-                .log().all()
                 .when()
                 .get()
                 .then()
-                .log().all()
                 .extract().response();
     }
 
     @Step("Get book by ID: {id}")
     public Response getBookById(int id) {
-        return given()
-                .baseUri(Config.BASE_URL)
-                .basePath(Config.BOOKS_ENDPOINT + "/" + id)
-                .log().all()
+        return Hedging.get(Config.BOOKS_ENDPOINT + "/{id}", () -> given()
+                .spec(transport.requestSpec())
+                .basePath(Config.BOOKS_ENDPOINT)
                 .when()
-                .get()
+                .get("/{id}", id)
                 .then()
-                .log().all()
-                .extract().response();
+                .extract().response());
     }
 
     @Step("Create new book")
     public Response createBook(Book book) {
         return given()
-                .baseUri(Config.BASE_URL)
+                .spec(transport.requestSpec())
                 .basePath(Config.BOOKS_ENDPOINT)
                 .header("Content-Type", "application/json")
                 .body(book)
-                .log().all()
                 .when()
                 .post()
                 .then()
-                .log().all()
                 .extract().response();
     }
 
     @Step("Update book with ID: {id}")
     public Response updateBook(int id, Book book) {
         return given()
-                .baseUri(Config.BASE_URL)
-                .basePath(Config.BOOKS_ENDPOINT + "/" + id)
+                .spec(transport.requestSpec())
+                .basePath(Config.BOOKS_ENDPOINT)
                 .header("Content-Type", "application/json")
                 .body(book)
-                .log().all()
                 .when()
-                .put()
+                .put("/{id}", id)
+                .then()
+                .extract().response();
+    }
+
+    /**
+     * Same as {@link #createBook(Book)}, but sends the pre-serialized JSON of {@code book} as is.
+     */
+    @Step("Create new book (pre-serialized)")
+    public Response createBook(ImmutableBook book) {
+        return given()
+                .spec(transport.requestSpec())
+                .basePath(Config.BOOKS_ENDPOINT)
+                .header("Content-Type", "application/json")
+                .body(book.jsonBytes())
+                .when()
+                .post()
+                .then()
+                .extract().response();
+    }
+
+    /**
+     * Same as {@link #updateBook(int, Book)}, but sends the pre-serialized JSON of {@code book} as is.
+     */
+    @Step("Update book with ID: {id} (pre-serialized)")
+    public Response updateBook(int id, ImmutableBook book) {
+        return given()
+                .spec(transport.requestSpec())
+                .basePath(Config.BOOKS_ENDPOINT)
+                .header("Content-Type", "application/json")
+                .body(book.jsonBytes())
+                .when()
+                .put("/{id}", id)
                 .then()
-                .log().all()
                 .extract().response();
     }
 
     @Step("Delete book with ID: {id}")
     public Response deleteBook(int id) {
         return given()
-                .baseUri(Config.BASE_URL)
-                .basePath(Config.BOOKS_ENDPOINT + "/" + id)
-                .log().all()
+                .spec(transport.requestSpec())
+                .basePath(Config.BOOKS_ENDPOINT)
                 .when()
-                .delete()
+                .delete("/{id}", id)
                 .then()
-                .log().all()
                 .extract().response();
     }
-}
\ No newline at end of file
+
+    /**
+     * Creates all books, {@link Config#BULK_CONCURRENCY} at a time; outcomes are in list order.
+     */
+    @Step("Create books in bulk")
+    public List<BulkOutcome> createBooks(List<Book> books) {
+        return Bulk.run(books, this::createBook);
+    }
+
+    /**
+     * Updates each book under its id, {@link Config#BULK_CONCURRENCY} at a time; outcomes follow the map's
+     * iteration order.
+     */
+    @Step("Update books in bulk")
+    public List<BulkOutcome> updateBooks(Map<Integer, Book> books) {
+        return Bulk.run(List.copyOf(books.entrySet()), entry -> updateBook(entry.getKey(), entry.getValue()));
+    }
+
+    /**
+     * Deletes all ids, {@link Config#BULK_CONCURRENCY} at a time; outcomes are in argument order.
+     */
+    @Step("Delete books in bulk")
+    public List<BulkOutcome> deleteBooks(int... ids) {
+        return Bulk.run(Arrays.stream(ids).boxed().toList(), this::deleteBook);
+    }
+}
@@ -0,0 +1,58 @@
+package com.bookstore.clients;
+
+import com.bookstore.config.Config;
+import io.restassured.response.Response;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.function.Function;
+
+/**
+ * Runs one blocking client call per item with at most {@link Config#BULK_CONCURRENCY} calls in flight,
+ * returning one {@link BulkOutcome} per item in item order. A failed call does not stop the others, so the
+ * caller sees which items went through and which did not.
+ * <p>
+ * The window's threads are started by the calling test rather than taken from a shared pool, so each call is
+ * reported under that test's Allure step and exchange capture, both held in {@code InheritableThreadLocal}s.
+ */
+public final class Bulk {
+
+    private static final ThreadFactory THREADS = Thread.ofPlatform().daemon().name("bulk-", 0).factory();
+
+    private Bulk() {
+    }
+
+    public static <T> List<BulkOutcome> run(List<T> items, Function<T, Response> call) {
+        if (items.isEmpty()) {
+            return List.of();
+        }
+        int window = Math.max(1, Math.min(Config.BULK_CONCURRENCY, items.size()));
+        List<Future<Response>> futures = new ArrayList<>(items.size());
+        try (ExecutorService executor = Executors.newFixedThreadPool(window, THREADS)) {
+            for (T item : items) {
+                futures.add(executor.submit(() -> call.apply(item)));
+            }
+        }
+
+        List<BulkOutcome> outcomes = new ArrayList<>(futures.size());
+        for (Future<Response> future : futures) {
+            outcomes.add(outcome(future));
+        }
+        return outcomes;
+    }
+
+    private static BulkOutcome outcome(Future<Response> future) {
+        return switch (future.state()) {
+            case SUCCESS -> new BulkOutcome(future.resultNow(), null);
+            case FAILED -> new BulkOutcome(null, future.exceptionNow());
+            // Never started: the caller was interrupted, so the executor dropped the calls still queued
+            default -> new BulkOutcome(null,
+                    new CancellationException("Bulk call not run, the caller was interrupted"));
+        };
+    }
+}
@@ -0,0 +1,36 @@
+package com.bookstore.clients;
+
+import io.restassured.response.Response;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+
+/**
+ * What became of one item of a {@link Bulk} run: its {@code response}, or the {@code failure} its call threw
+ * (a timeout, an open circuit, a schema violation, ...). Exactly one of the two is set.
+ */
+public record BulkOutcome(Response response, Throwable failure) {
+
+    public boolean failed() {
+        return failure != null;
+    }
+
+    /**
+     * The response, or the failure thrown as it was; RestAssured's checked I/O failures are wrapped unchecked.
+     */
+    public Response orThrow() {
+        if (failure == null) {
+            return response;
+        }
+        if (failure instanceof RuntimeException e) {
+            throw e;
+        }
+        if (failure instanceof Error e) {
+            throw e;
+        }
+        if (failure instanceof IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        throw new IllegalStateException(failure);
+    }
+}
@@ -0,0 +1,193 @@
+package com.bookstore.clients;
+
+import com.bookstore.config.Config;
+import io.restassured.filter.Filter;
+import io.restassured.filter.FilterContext;
+import io.restassured.response.Response;
+import io.restassured.specification.FilterableRequestSpecification;
+import io.restassured.specification.FilterableResponseSpecification;
+
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Circuit breaker for one target, shared by every client of an {@link ApiTransport}.
+ * <p>
+ * The outcome of the last {@code window} calls is kept. A call fails when it throws (connect or socket
+ * timeout, refused connection, ...) or the target answers {@code 502}, {@code 503} or {@code 504}; any other
+ * response, including 4xx, means the target is up. Once at least {@code minCalls} were seen and
+ * {@code failureRate} of them failed, the circuit opens: calls throw {@link CircuitOpenException} right away
+ * instead of each waiting for its own timeout. After {@code openMillis} the circuit is half-open and lets up
+ * to {@code probes} calls through; the first probe to succeed closes it, a failed probe opens it again.
+ * <p>
+ * Calls cancelled by interrupting their thread (the losing attempt of a hedged GET) are not counted.
+ * Instances are thread-safe.
+ */
+public final class CircuitBreaker implements Filter {
+
+    public enum State { CLOSED, OPEN, HALF_OPEN }
+
+    private final String target;
+    private final double failureRate;
+    private final int minCalls;
+    private final long openNanos;
+    private final int probes;
+
+    // Ring buffer of the last outcomes, true for a failure; guarded by this
+    private final boolean[] outcomes;
+    private int next;
+    private int calls;
+    private int failures;
+
+    private State state = State.CLOSED;
+    private long openedAt;
+    private int probesInFlight;
+    private String openReason;
+    private Throwable lastFailure;
+    private int trips;
+    private long rejected;
+
+    public CircuitBreaker(String target, double failureRate, int window, int minCalls, long openMillis, int probes) {
+        if (!(failureRate > 0 && failureRate <= 1) || window < 1 || minCalls < 1 || minCalls > window || probes < 1) {
+            throw new IllegalArgumentException(String.format(Locale.ROOT,
+                    "Invalid circuit breaker: failureRate=%s, window=%d, minCalls=%d, probes=%d",
+                    failureRate, window, minCalls, probes));
+        }
+        this.target = target;
+        this.failureRate = failureRate;
+        this.minCalls = minCalls;
+        this.openNanos = TimeUnit.MILLISECONDS.toNanos(openMillis);
+        this.probes = probes;
+        this.outcomes = new boolean[window];
+    }
+
+    /**
+     * Breaker for {@code target} configured from {@code -Dbookstore.breaker.*}.
+     */
+    public static CircuitBreaker fromConfig(String target) {
+        return new CircuitBreaker(target, Config.BREAKER_FAILURE_RATE, Config.BREAKER_WINDOW,
+                Config.BREAKER_MIN_CALLS, Config.BREAKER_OPEN_MS, Config.BREAKER_PROBES);
+    }
+
+    @Override
+    public Response filter(FilterableRequestSpecification requestSpec,
+                           FilterableResponseSpecification responseSpec,
+                           FilterContext ctx) {
+        boolean probe = admit();
+        Response response;
+        try {
+            response = ctx.next(requestSpec, responseSpec);
+        } catch (Exception e) {
+            // RestAssured rethrows I/O failures unchecked, so this catches them as well
+            if (Thread.currentThread().isInterrupted()) {
+                cancelled(probe);
+            } else {
+                completed(probe, e.toString(), e);
+            }
+            throw e;
+        }
+        int status = response.getStatusCode();
+        boolean unavailable = status == 502 || status == 503 || status == 504;
+        completed(probe, unavailable ? "HTTP " + status : null, null);
+        return response;
+    }
+
+    public synchronized State state() {
+        return state;
+    }
+
+    /**
+     * How many times the circuit has opened.
+     */
+    public synchronized int trips() {
+        return trips;
+    }
+
+    /**
+     * Calls failed fast because the circuit was open.
+     */
+    public synchronized long rejected() {
+        return rejected;
+    }
+
+    /**
+     * Lets the call through, or throws when the circuit is open; returns whether the call is a half-open probe.
+     */
+    private synchronized boolean admit() {
+        if (state == State.OPEN && System.nanoTime() - openedAt >= openNanos) {
+            state = State.HALF_OPEN;
+            probesInFlight = 0;
+        }
+        if (state == State.CLOSED) {
+            return false;
+        }
+        if (state == State.HALF_OPEN && probesInFlight < probes) {
+            probesInFlight++;
+            return true;
+        }
+        rejected++;
+        long retryMillis = state == State.OPEN
+                ? Math.max(0, TimeUnit.NANOSECONDS.toMillis(openNanos - (System.nanoTime() - openedAt))) : 0;
+        throw new CircuitOpenException(String.format(Locale.ROOT,
+                "Circuit open for %s: %s; next probe in %d ms", target, openReason, retryMillis), lastFailure);
+    }
+
+    /**
+     * Records a finished call; {@code failure} describes why it failed, or is {@code null} when it succeeded.
+     */
+    private synchronized void completed(boolean probe, String failure, Throwable cause) {
+        if (failure != null) {
+            lastFailure = cause;
+        }
+        if (probe) {
+            probesInFlight--;
+            if (state != State.HALF_OPEN) {
+                return;
+            }
+            if (failure == null) {
+                close();
+            } else {
+                open("half-open probe failed with " + failure);
+            }
+            return;
+        }
+        if (state != State.CLOSED) {
+            // Sent before the circuit opened
+            return;
+        }
+        if (calls == outcomes.length && outcomes[next]) {
+            failures--;
+        }
+        outcomes[next] = failure != null;
+        if (failure != null) {
+            failures++;
+        }
+        next = (next + 1) % outcomes.length;
+        calls = Math.min(calls + 1, outcomes.length);
+        if (failure != null && calls >= minCalls && failures >= failureRate * calls) {
+            open(String.format(Locale.ROOT, "%d of the last %d calls failed, last with %s", failures, calls, failure));
+        }
+    }
+
+    private synchronized void cancelled(boolean probe) {
+        if (probe) {
+            probesInFlight--;
+        }
+    }
+
+    private void open(String reason) {
+        state = State.OPEN;
+        openedAt = System.nanoTime();
+        openReason = reason;
+        trips++;
+    }
+
+    private void close() {
+        state = State.CLOSED;
+        next = 0;
+        calls = 0;
+        failures = 0;
+        lastFailure = null;
+        openReason = null;
+    }
+}
@@ -0,0 +1,14 @@
+package com.bookstore.clients;
+
+/**
+ * Thrown instead of sending a request while the transport's {@link CircuitBreaker} is open. The cause, when
+ * present, is the last failure seen before the circuit opened.
+ */
+public class CircuitOpenException extends RuntimeException {
+
+    private static final long serialVersionUID = 1L;
+
+    public CircuitOpenException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
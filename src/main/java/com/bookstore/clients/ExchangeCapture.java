@@ -0,0 +1,134 @@
+package com.bookstore.clients;
+
+import com.bookstore.config.Config;
+import io.restassured.filter.Filter;
+import io.restassured.filter.FilterContext;
+import io.restassured.http.Header;
+import io.restassured.response.Response;
+import io.restassured.specification.FilterableRequestSpecification;
+import io.restassured.specification.FilterableResponseSpecification;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Keeps the last {@link Config#CAPTURE_SIZE} HTTP exchanges of the current test in a fixed-size ring buffer.
+ * <p>
+ * Recording only stores references to the request and response; nothing is formatted until
+ * {@link #render()} is called, which normally happens only when a test fails. Capturing is active
+ * between {@link #begin()} and {@link #end()}; threads started by the test inherit its buffer.
+ */
+public final class ExchangeCapture implements Filter {
+
+    private static final InheritableThreadLocal<Ring> CURRENT = new InheritableThreadLocal<>();
+
+    public static void begin() {
+        CURRENT.set(new Ring(Config.CAPTURE_SIZE));
+    }
+
+    public static void end() {
+        CURRENT.remove();
+    }
+
+    /**
+     * Formats the captured exchanges of the current test, oldest first, or returns an empty string if none.
+     */
+    public static String render() {
+        Ring ring = CURRENT.get();
+        if (ring == null) {
+            return "";
+        }
+        StringBuilder out = new StringBuilder();
+        for (Exchange exchange : ring.snapshot()) {
+            exchange.appendTo(out);
+        }
+        return out.toString();
+    }
+
+    @Override
+    public Response filter(FilterableRequestSpecification requestSpec,
+                           FilterableResponseSpecification responseSpec,
+                           FilterContext ctx) {
+        Ring ring = CURRENT.get();
+        if (ring == null) {
+            return ctx.next(requestSpec, responseSpec);
+        }
+        try {
+            Response response = ctx.next(requestSpec, responseSpec);
+            ring.add(new Exchange(requestSpec, response, null));
+            return response;
+        } catch (Exception e) {
+            ring.add(new Exchange(requestSpec, null, e));
+            throw e;
+        }
+    }
+
+    private record Exchange(FilterableRequestSpecification request, Response response, Throwable failure) {
+
+        void appendTo(StringBuilder out) {
+            out.append(request.getMethod()).append(' ').append(request.getURI()).append('\n');
+            for (Header header : request.getHeaders()) {
+                out.append(header.getName()).append(": ").append(header.getValue()).append('\n');
+            }
+            Object requestBody = request.getBody();
+            if (requestBody instanceof byte[] bytes) {
+                // Pre-serialized JSON from the Immutable* models
+                requestBody = new String(bytes, StandardCharsets.UTF_8);
+            }
+            if (requestBody != null) {
+                out.append('\n').append(requestBody).append('\n');
+            }
+            out.append('\n');
+            if (failure != null) {
+                out.append("<no response> ").append(failure).append('\n');
+            } else {
+                out.append(response.getStatusLine()).append(" (").append(response.getTime()).append(" ms)\n");
+                for (Header header : response.getHeaders()) {
+                    out.append(header.getName()).append(": ").append(header.getValue()).append('\n');
+                }
+                String body;
+                try {
+                    body = response.getBody().asPrettyString();
+                } catch (Exception e) {
+                    // Streamed bodies are consumed by the test and cannot be read again; RestAssured throws the
+                    // resulting IOException unchecked, so it is not a RuntimeException
+                    body = "<streamed body not captured>";
+                }
+                if (!body.isEmpty()) {
+                    out.append('\n').append(body).append('\n');
+                }
+            }
+            out.append("----------------------------------------\n");
+        }
+    }
+
+    private static final class Ring {
+        private final AtomicReferenceArray<Exchange> slots;
+        private final AtomicLong written = new AtomicLong();
+
+        Ring(int capacity) {
+            slots = new AtomicReferenceArray<>(Math.max(1, capacity));
+        }
+
+        void add(Exchange exchange) {
+            long index = written.getAndIncrement();
+            slots.set((int) (index % slots.length()), exchange);
+        }
+
+        Exchange[] snapshot() {
+            long end = written.get();
+            long start = Math.max(0, end - slots.length());
+            Exchange[] result = new Exchange[(int) (end - start)];
+            int count = 0;
+            for (long i = start; i < end; i++) {
+                Exchange exchange = slots.get((int) (i % slots.length()));
+                if (exchange != null) {
+                    result[count++] = exchange;
+                }
+            }
+            return count == result.length ? result : Arrays.copyOf(result, count);
+        }
+    }
+}
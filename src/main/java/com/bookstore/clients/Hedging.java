@@ -0,0 +1,177 @@
+package com.bookstore.clients;
+
+import com.bookstore.config.Config;
+import com.bookstore.metrics.EndpointMetrics;
+import com.bookstore.metrics.EndpointStats;
+import io.restassured.response.Response;
+import org.apache.http.HttpRequest;
+import org.apache.http.client.methods.HttpRequestBase;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+/**
+ * Hedged execution of idempotent GETs, enabled with {@link Config#HEDGING}.
+ * <p>
+ * The call is started on its own thread. If it has not answered after the endpoint's
+ * {@link Config#HEDGE_PERCENTILE}th-percentile latency (from {@link EndpointMetrics#global()}, or
+ * {@link Config#HEDGE_DELAY_MS} until {@link #MIN_SAMPLES} calls were timed), the same call is sent a second
+ * time. The first response is returned and the other request is aborted: its thread is interrupted and then
+ * its connection closed, so it is neither waited for nor counted as an error. Only when both fail is the
+ * first failure thrown.
+ * <p>
+ * Each attempt gets a thread of its own, never a pooled one, so interrupting the losing attempt cannot hit an
+ * unrelated task; being started by the caller, it also inherits the caller's Allure step and exchange capture.
+ */
+final class Hedging {
+
+    static final int MIN_SAMPLES = 20;
+
+    private static final ThreadFactory THREADS = Thread.ofPlatform().daemon().name("hedge-", 0).factory();
+    private static final ThreadLocal<Attempt> CURRENT = new ThreadLocal<>();
+
+    private Hedging() {
+    }
+
+    /**
+     * Runs {@code call}, a GET of the endpoint with path template {@code path}, hedged when enabled.
+     */
+    static Response get(String path, Supplier<Response> call) {
+        if (!Config.HEDGING) {
+            return call.get();
+        }
+        Outcome outcome = new Outcome();
+        Attempt primary = new Attempt(call, outcome);
+        Attempt backup = new Attempt(call, outcome);
+
+        outcome.pending.set(1);
+        primary.start();
+        try {
+            try {
+                return outcome.winner.get(delayNanos(path), TimeUnit.NANOSECONDS);
+            } catch (TimeoutException e) {
+                outcome.pending.incrementAndGet();
+                backup.start();
+            }
+            return outcome.winner.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for a hedged GET " + path, e);
+        } catch (ExecutionException e) {
+            // RestAssured rethrows I/O failures unchecked, but they are still IOExceptions
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (e.getCause() instanceof Error cause) {
+                throw cause;
+            }
+            if (e.getCause() instanceof IOException cause) {
+                throw new UncheckedIOException(cause);
+            }
+            throw new IllegalStateException(e.getCause());
+        } finally {
+            // Whichever is still running lost
+            primary.cancel();
+            backup.cancel();
+        }
+    }
+
+    /**
+     * Called by the transport's HTTP client before a request is sent, with the request as RestAssured built it:
+     * remembers the request so the attempt can abort it, or fails it right away if the attempt already lost.
+     */
+    static void bind(HttpRequest request) throws IOException {
+        Attempt attempt = CURRENT.get();
+        if (attempt == null) {
+            return;
+        }
+        if (request instanceof HttpRequestBase abortable) {
+            attempt.request = abortable;
+        }
+        if (attempt.cancelled) {
+            throw new IOException("Hedged request no longer needed");
+        }
+    }
+
+    private static long delayNanos(String path) {
+        EndpointStats.Timer latency = EndpointMetrics.global().endpoint("GET", path).total();
+        if (latency.count() < MIN_SAMPLES) {
+            return TimeUnit.MILLISECONDS.toNanos(Config.HEDGE_DELAY_MS);
+        }
+        return TimeUnit.MICROSECONDS.toNanos(latency.percentileMicros(Config.HEDGE_PERCENTILE));
+    }
+
+    /**
+     * Shared by the attempts of one call: the first response wins (a later one is dropped), the first failure is
+     * reported once every started attempt has failed.
+     */
+    private static final class Outcome {
+        final CompletableFuture<Response> winner = new CompletableFuture<>();
+        final AtomicReference<Attempt> first = new AtomicReference<>();
+        final AtomicInteger pending = new AtomicInteger();
+        final AtomicReference<Throwable> firstFailure = new AtomicReference<>();
+
+        void failed(Throwable failure) {
+            firstFailure.compareAndSet(null, failure);
+            if (pending.decrementAndGet() == 0) {
+                winner.completeExceptionally(firstFailure.get());
+            }
+        }
+    }
+
+    private static final class Attempt implements Runnable {
+        private final Supplier<Response> call;
+        private final Outcome outcome;
+        private volatile Thread thread;
+        private volatile HttpRequestBase request;
+        private volatile boolean cancelled;
+
+        Attempt(Supplier<Response> call, Outcome outcome) {
+            this.call = call;
+            this.outcome = outcome;
+        }
+
+        void start() {
+            thread = THREADS.newThread(this);
+            thread.start();
+        }
+
+        @Override
+        public void run() {
+            CURRENT.set(this);
+            try {
+                Response response = call.get();
+                if (outcome.first.compareAndSet(null, this)) {
+                    outcome.winner.complete(response);
+                }
+            } catch (Throwable e) {
+                // Errors too (e.g. a schema violation of the response), or the caller would wait forever
+                outcome.failed(e);
+            } finally {
+                CURRENT.remove();
+            }
+        }
+
+        void cancel() {
+            Thread running = thread;
+            if (running == null || !running.isAlive() || outcome.first.get() == this) {
+                return;
+            }
+            cancelled = true;
+            // Interrupted first, so the filters see the failure of the aborted request as a cancellation
+            running.interrupt();
+            HttpRequestBase inFlight = request;
+            if (inFlight != null) {
+                inFlight.abort();
+            }
+        }
+    }
+}
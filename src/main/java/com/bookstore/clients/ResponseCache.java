@@ -0,0 +1,154 @@
+package com.bookstore.clients;
+
+import io.restassured.builder.ResponseBuilder;
+import io.restassured.filter.Filter;
+import io.restassured.filter.FilterContext;
+import io.restassured.response.Response;
+import io.restassured.specification.FilterableRequestSpecification;
+import io.restassured.specification.FilterableResponseSpecification;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Bounded cache of successful GET responses, keyed by request URI.
+ * <p>
+ * Entries are evicted least-recently-used once {@code maxEntries} is reached and are served without a request
+ * for {@code ttlMillis}. After that, an entry that carries an {@code ETag} or {@code Last-Modified} header is
+ * revalidated with {@code If-None-Match} / {@code If-Modified-Since}; a {@code 304} refreshes it. Entries without
+ * validators are simply fetched again. POST, PUT and DELETE through the same transport drop the cached
+ * resource and its collection, both when they are sent and when they complete, and a GET of either that was in
+ * flight meanwhile does not store its possibly stale response. Every caller receives its own copy of a cached
+ * response.
+ */
+public final class ResponseCache implements Filter {
+
+    private final int maxEntries;
+    private final long ttlMillis;
+    private final Map<String, Entry> entries;
+    // Generation of the latest invalidation of each path; evicted records are folded into evictedGeneration
+    private final Map<String, Long> invalidated;
+    private long generation;
+    private long evictedGeneration;
+
+    public ResponseCache(int maxEntries, long ttlMillis) {
+        this.maxEntries = maxEntries;
+        this.ttlMillis = ttlMillis;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+                return size() > ResponseCache.this.maxEntries;
+            }
+        };
+        this.invalidated = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Long> eldest) {
+                if (size() <= ResponseCache.this.maxEntries) {
+                    return false;
+                }
+                evictedGeneration = Math.max(evictedGeneration, eldest.getValue());
+                return true;
+            }
+        };
+    }
+
+    @Override
+    public Response filter(FilterableRequestSpecification requestSpec,
+                           FilterableResponseSpecification responseSpec,
+                           FilterContext ctx) {
+        String uri = requestSpec.getURI();
+        if (!"GET".equalsIgnoreCase(requestSpec.getMethod())) {
+            invalidate(uri);
+            try {
+                return ctx.next(requestSpec, responseSpec);
+            } finally {
+                // Again, for GETs sent while the write was in flight
+                invalidate(uri);
+            }
+        }
+
+        long started = generation();
+        Entry cached = get(uri);
+        if (cached != null) {
+            if (System.currentTimeMillis() - cached.storedAt < ttlMillis) {
+                return copy(cached.response);
+            }
+            if (cached.etag != null) {
+                requestSpec.header("If-None-Match", cached.etag);
+            }
+            if (cached.lastModified != null) {
+                requestSpec.header("If-Modified-Since", cached.lastModified);
+            }
+        }
+
+        Response response = ctx.next(requestSpec, responseSpec);
+        if (response.getStatusCode() == 304 && cached != null) {
+            putIfCurrent(uri, new Entry(cached.response, cached.etag, cached.lastModified, System.currentTimeMillis()),
+                    started);
+            return copy(cached.response);
+        }
+        if (response.getStatusCode() == 200) {
+            putIfCurrent(uri, new Entry(copy(response), response.getHeader("ETag"), response.getHeader("Last-Modified"),
+                    System.currentTimeMillis()), started);
+        }
+        return response;
+    }
+
+    public synchronized void clear() {
+        entries.clear();
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    private synchronized Entry get(String uri) {
+        return entries.get(uri);
+    }
+
+    private synchronized long generation() {
+        return generation;
+    }
+
+    /**
+     * Stores {@code entry} unless {@code uri} was invalidated after generation {@code started}, when its GET was
+     * sent: the response may then predate the write. Without a record for the path, the latest evicted one stands in.
+     */
+    private synchronized void putIfCurrent(String uri, Entry entry, long started) {
+        Long last = invalidated.get(path(uri));
+        if ((last != null ? last : evictedGeneration) <= started) {
+            entries.put(uri, entry);
+        }
+    }
+
+    /**
+     * Drops the resource itself and the collection it belongs to, e.g. {@code /Books/7} and {@code /Books}.
+     */
+    private synchronized void invalidate(String uri) {
+        String resource = path(uri);
+        String collection = resource.substring(0, Math.max(0, resource.lastIndexOf('/')));
+        generation++;
+        invalidated.put(resource, generation);
+        invalidated.put(collection, generation);
+        entries.keySet().removeIf(key -> {
+            String path = path(key);
+            return path.equals(resource) || path.equals(collection);
+        });
+    }
+
+    /**
+     * URI without query string and trailing slash.
+     */
+    private static String path(String uri) {
+        int query = uri.indexOf('?');
+        String path = query < 0 ? uri : uri.substring(0, query);
+        return path.endsWith("/") ? path.substring(0, path.length() - 1) : path;
+    }
+
+    private static Response copy(Response response) {
+        return new ResponseBuilder().clone(response).build();
+    }
+
+    private record Entry(Response response, String etag, String lastModified, long storedAt) {
+    }
+}
@@ -0,0 +1,97 @@
+package com.bookstore.clients;
+
+import com.bookstore.schema.ModelSchema;
+import com.bookstore.schema.ResponseContracts;
+import com.google.gson.Gson;
+import com.google.gson.JsonIOException;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
+import io.restassured.response.Response;
+
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.StringWriter;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Parses a JSON array response one element at a time, straight from the response input stream.
+ * <p>
+ * Only the element being read is held in memory, and a short-circuiting operation such as
+ * {@code findFirst()} stops reading the body early. Nothing is read until the first element is requested.
+ * The returned stream owns the response body: close it (try-with-resources) to release the connection.
+ * Meant for responses of the {@code stream*} client methods, whose bodies are not buffered up front.
+ * <p>
+ * Books and Authors are checked against their schema element by element as they are parsed (see
+ * {@link ResponseContracts#elementSchema}), since the transport cannot check a body it does not read.
+ */
+public final class ResponseStreams {
+
+    private static final Gson GSON = new Gson();
+
+    private ResponseStreams() {
+    }
+
+    public static <T> Stream<T> elements(Response response, Class<T> type) {
+        ElementSpliterator<T> spliterator = new ElementSpliterator<>(response, type);
+        return StreamSupport.stream(spliterator, false).onClose(spliterator::close);
+    }
+
+    private static final class ElementSpliterator<T> extends Spliterators.AbstractSpliterator<T> {
+        private final Response response;
+        private final Class<T> type;
+        private final ModelSchema schema;
+        // The current element as the schema read it, when elements are checked
+        private final StringWriter element = new StringWriter();
+        private JsonReader reader;
+
+        ElementSpliterator(Response response, Class<T> type) {
+            super(Long.MAX_VALUE, Spliterator.ORDERED | Spliterator.NONNULL);
+            this.response = response;
+            this.type = type;
+            this.schema = ResponseContracts.elementSchema(type, response);
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super T> action) {
+            try {
+                if (reader == null) {
+                    reader = new JsonReader(new InputStreamReader(response.asInputStream(), StandardCharsets.UTF_8));
+                    reader.beginArray();
+                }
+                if (!reader.hasNext()) {
+                    return false;
+                }
+                if (schema == null) {
+                    action.accept(GSON.fromJson(reader, type));
+                } else {
+                    // Checked as it is read from the body; Gson binds the compact copy of this one element
+                    element.getBuffer().setLength(0);
+                    ResponseContracts.checkElement(schema, "streamed " + type.getSimpleName() + " array", reader,
+                            new JsonWriter(element));
+                    action.accept(GSON.fromJson(element.toString(), type));
+                }
+                return true;
+            } catch (IOException e) {
+                throw new JsonIOException(e);
+            }
+        }
+
+        void close() {
+            try {
+                if (reader != null) {
+                    reader.close();
+                } else {
+                    response.asInputStream().close();
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+}
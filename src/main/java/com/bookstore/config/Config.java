@@ -4,6 +4,13 @@ public class Config {
     // Base URL for the API
     public static final String BASE_URL = "https://fakerestapi.azurewebsites.net";
 
+    // Fan-out run against several environments at once, e.g. staging=https://...,prod=https://... (empty: off)
+    public static final String ENVIRONMENTS = System.getProperty("bookstore.environments", "");
+
+    // Embedded stub of the API (-Dbookstore.stub=true); port 0 picks a free port
+    public static final boolean USE_STUB = Boolean.getBoolean("bookstore.stub");
+    public static final int STUB_PORT = Integer.getInteger("bookstore.stub.port", 0);
+
     // API version
     public static final String API_VERSION = "/api/v1";
 
@@ -14,4 +21,110 @@ public class Config {
     // Timeouts
     public static final int CONNECTION_TIMEOUT = 10000;
     public static final int SOCKET_TIMEOUT = 10000;
-}
\ No newline at end of file
+
+    // Connection pool (override with -Dbookstore.pool.*)
+    public static final int POOL_MAX_TOTAL = Integer.getInteger("bookstore.pool.maxTotal", 64);
+    public static final int POOL_MAX_PER_ROUTE = Integer.getInteger("bookstore.pool.maxPerRoute", 32);
+    public static final long POOL_KEEP_ALIVE_MS = Long.getLong("bookstore.pool.keepAliveMs", 30000L);
+
+    // Requests in flight for the bulk client methods
+    public static final int BULK_CONCURRENCY = Integer.getInteger("bookstore.bulk.concurrency", 16);
+
+    // Steps of a scenario graph running at the same time (independent chains run in parallel)
+    public static final int SCENARIO_CONCURRENCY = Integer.getInteger("bookstore.scenario.concurrency", 8);
+
+    // Contract check of every Books/Authors response against the schema derived from its model. Defaults to on
+    // against the stub only: runs against a remote target keep their previous behaviour unless asked for it
+    public static final boolean SCHEMA_VALIDATION =
+            Boolean.parseBoolean(System.getProperty("bookstore.schema", String.valueOf(USE_STUB)));
+
+    // Circuit breaker per transport (-Dbookstore.breaker=false disables it): opens when failureRate of the last
+    // window calls failed (at least minCalls seen), fails calls fast while open and probes again after openMs
+    public static final boolean BREAKER_ENABLED = Boolean.parseBoolean(System.getProperty("bookstore.breaker", "true"));
+    public static final double BREAKER_FAILURE_RATE =
+            Double.parseDouble(System.getProperty("bookstore.breaker.failureRate", "0.5"));
+    public static final int BREAKER_WINDOW = Integer.getInteger("bookstore.breaker.window", 20);
+    public static final int BREAKER_MIN_CALLS = Integer.getInteger("bookstore.breaker.minCalls", 10);
+    public static final long BREAKER_OPEN_MS = Long.getLong("bookstore.breaker.openMs", 30000L);
+    public static final int BREAKER_PROBES = Integer.getInteger("bookstore.breaker.probes", 1);
+
+    // Leased fixtures per transport: Books and Authors created by the first lease, with ids counting up from idBase
+    // (shard i of a sharded run starts 10000 * (i - 1) above it)
+    public static final int FIXTURE_POOL_SIZE = Integer.getInteger("bookstore.fixtures.size", 8);
+    public static final int FIXTURE_ID_BASE = Integer.getInteger("bookstore.fixtures.idBase", 700_000);
+
+    // Hedged GETs (-Dbookstore.hedge=true): a second request is sent once the first is slower than the endpoint's
+    // percentile latency, or than the fixed delay until enough calls were timed
+    public static final boolean HEDGING = Boolean.getBoolean("bookstore.hedge");
+    public static final double HEDGE_PERCENTILE =
+            Double.parseDouble(System.getProperty("bookstore.hedge.percentile", "95"));
+    public static final long HEDGE_DELAY_MS = Long.getLong("bookstore.hedge.delayMs", 1000L);
+
+    // Response cache for GETs (-Dbookstore.cache=true): max entries and time served without revalidation
+    public static final boolean CACHE_ENABLED = Boolean.getBoolean("bookstore.cache");
+    public static final int CACHE_SIZE = Integer.getInteger("bookstore.cache.size", 256);
+    public static final long CACHE_TTL_MS = Long.getLong("bookstore.cache.ttlMs", 30000L);
+
+    // HTTP cassette: "record" stores every exchange in the cassette file, "replay" serves them from it offline
+    public static final String CASSETTE_MODE = System.getProperty("bookstore.cassette", "off");
+    public static final String CASSETTE_FILE =
+            System.getProperty("bookstore.cassette.file", "cassettes/bookstore.cassette");
+
+    // Prometheus text file with per-endpoint HTTP metrics, written at the end of the suite
+    public static final String METRICS_FILE = System.getProperty("bookstore.metrics.file", "target/http-metrics.prom");
+
+    // @MaxLatency enforcement: "on" (as annotated), "warn" (never fail) or "off". Defaults to "on" against the
+    // stub only: against a remote target one cold TLS handshake decides the p99 of a single-call test
+    public static final String LATENCY_BUDGETS =
+            System.getProperty("bookstore.latency.budgets", USE_STUB ? "on" : "warn");
+
+    // Flight recording of the suite (-Dbookstore.jfr=true) with JFR's "default" or "profile" settings; the
+    // recording is dumped into the directory at the end of the suite and for every latency budget breach
+    public static final boolean JFR_RECORDING = Boolean.getBoolean("bookstore.jfr");
+    public static final String JFR_SETTINGS = System.getProperty("bookstore.jfr.settings", "default");
+    public static final String JFR_DIR = System.getProperty("bookstore.jfr.dir", "target/jfr");
+
+    // HTTP logging: "failures" renders captured exchanges only for failed tests, "all" logs every exchange
+    public static final String HTTP_LOG_MODE = System.getProperty("bookstore.http.log", "failures");
+    public static final int CAPTURE_SIZE = Integer.getInteger("bookstore.capture.size", 10);
+
+    // Virtual-thread execution mode (see the virtual-threads Maven profile)
+    public static final boolean VIRTUAL_THREADS = Boolean.getBoolean("bookstore.virtualThreads");
+    public static final int VIRTUAL_THREAD_COUNT = Integer.getInteger("bookstore.virtualThreads.count", 256);
+
+    // Per-test durations: this run's file, and the history kept across runs. In CI (CI=true) the history is kept
+    // outside target/, where the workflow caches it; a local run keeps it under target/ instead of rewriting a
+    // file in the working tree
+    public static final String DURATIONS_FILE =
+            System.getProperty("bookstore.durations.file", "target/test-durations.properties");
+    public static final String DURATIONS_HISTORY = System.getProperty("bookstore.durations.history",
+            "true".equalsIgnoreCase(System.getenv("CI"))
+                    ? "test-durations.properties" : "target/test-durations-history.properties");
+
+    // Test order: "longest-first" schedules by duration history, "declared" keeps the testng.xml order
+    public static final String SCHEDULE = System.getProperty("bookstore.schedule", "longest-first");
+
+    // Sharding across JVMs (-Dshard=2/8): "hash" of class+method, or "duration" balanced from a durations file
+    public static final String SHARD = System.getProperty("shard");
+    public static final String SHARD_STRATEGY = System.getProperty("shard.strategy", "hash");
+    public static final String SHARD_DURATIONS = System.getProperty("shard.durations", DURATIONS_HISTORY);
+
+    // Load mode (see the load Maven profile)
+    public static final double LOAD_RATE = Double.parseDouble(System.getProperty("bookstore.load.rate", "50"));
+    public static final long LOAD_DURATION_SECONDS = Long.getLong("bookstore.load.durationSeconds", 30L);
+    public static final double LOAD_MAX_ERROR_RATE =
+            Double.parseDouble(System.getProperty("bookstore.load.maxErrorRate", "0.01"));
+
+    // Fuzz mode (see the fuzz Maven profile); the seed defaults to a new one per run and is always reported
+    public static final long FUZZ_CASES = Long.getLong("bookstore.fuzz.cases", 10_000L);
+    public static final long FUZZ_SEED = Long.getLong("bookstore.fuzz.seed", System.currentTimeMillis());
+    public static final int FUZZ_CONCURRENCY = Integer.getInteger("bookstore.fuzz.concurrency", 64);
+
+    /**
+     * Base URL the default clients talk to: {@code -Dbookstore.baseUrl} when set (e.g. by the embedded stub),
+     * otherwise {@link #BASE_URL}.
+     */
+    public static String baseUrl() {
+        return System.getProperty("bookstore.baseUrl", BASE_URL);
+    }
+}
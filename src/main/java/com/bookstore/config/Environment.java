@@ -0,0 +1,58 @@
+package com.bookstore.config;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * A named target of a fan-out run, given as {@code name=baseUrl} in {@link Config#ENVIRONMENTS}.
+ */
+public record Environment(String name, String baseUrl) {
+
+    /** Name of the {@code <test>} parameter that binds a copied test to its environment. */
+    public static final String PARAMETER = "bookstore.environment";
+
+    /**
+     * Environments of {@link Config#ENVIRONMENTS} in the order given; empty when not fanning out.
+     */
+    public static List<Environment> configured() {
+        return parse(Config.ENVIRONMENTS);
+    }
+
+    /**
+     * The configured environment called {@code name}.
+     */
+    public static Environment named(String name) {
+        return configured().stream()
+                .filter(environment -> environment.name().equals(name))
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException("Unknown environment '" + name + "', configured: "
+                        + Config.ENVIRONMENTS));
+    }
+
+    /**
+     * Parses a comma-separated list of {@code name=baseUrl} entries, e.g.
+     * {@code staging=https://staging.example.com,prod=https://example.com}.
+     */
+    public static List<Environment> parse(String spec) {
+        List<Environment> environments = new ArrayList<>();
+        if (spec == null || spec.isBlank()) {
+            return environments;
+        }
+        Set<String> names = new HashSet<>();
+        for (String entry : spec.split(",")) {
+            int separator = entry.indexOf('=');
+            String name = separator < 0 ? "" : entry.substring(0, separator).trim();
+            String baseUrl = separator < 0 ? "" : entry.substring(separator + 1).trim();
+            if (!name.matches("[A-Za-z0-9_-]+") || baseUrl.isEmpty()) {
+                throw new IllegalArgumentException("Expected name=baseUrl, got '" + entry.trim() + "' in " + spec);
+            }
+            if (!names.add(name)) {
+                throw new IllegalArgumentException("Environment '" + name + "' is listed twice in " + spec);
+            }
+            environments.add(new Environment(name, baseUrl));
+        }
+        return environments;
+    }
+}
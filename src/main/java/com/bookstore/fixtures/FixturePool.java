@@ -0,0 +1,290 @@
+package com.bookstore.fixtures;
+
+import com.bookstore.clients.ApiTransport;
+import com.bookstore.clients.Bulk;
+import com.bookstore.clients.BulkOutcome;
+import com.bookstore.config.Config;
+import com.bookstore.models.Author;
+import com.bookstore.models.Book;
+import io.restassured.response.Response;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.IntFunction;
+import java.util.function.ToIntFunction;
+import java.util.stream.IntStream;
+
+import static io.restassured.RestAssured.given;
+
+/**
+ * Pool of entities created through the API once and {@link Lease leased} to one test at a time, so tests that
+ * update or delete an entity neither collide on shared ids nor create their own. The pool is filled, with one
+ * bulk POST, by its first lease, so a run that never leases from it sends no request for it.
+ * <p>
+ * Idle fixtures wait in a lock-free queue: leasing and returning one is a single {@code poll}/{@code offer}
+ * with no round-trip. When the pool runs dry a fixture is created on the spot and joins the pool when
+ * returned. Modified fixtures are reset (PUT of the original) and deleted ones replaced (POST of a new one)
+ * on a background thread before they are leased again, so the returning test does not wait for it.
+ * {@link #close()} deletes everything the pool created in bulk.
+ * <p>
+ * Requests go straight through the {@link ApiTransport} rather than the {@code @Step} client methods: resets
+ * and the final cleanup run outside any test, where there is no Allure test case to attach steps to.
+ * <p>
+ * The reset thread is first started by whichever test returns a fixture first, so it does not inherit that
+ * test's thread-locals: later resets are not captured as that test's exchanges.
+ */
+public final class FixturePool<T> implements AutoCloseable {
+
+    private static final Logger log = LoggerFactory.getLogger(FixturePool.class);
+    private static final ThreadFactory THREADS = Thread.ofPlatform()
+            .daemon()
+            .name("fixture-reset-", 0)
+            .inheritInheritableThreadLocals(false)
+            .factory();
+
+    private final String name;
+    private final ApiTransport transport;
+    private final String endpoint;
+    private final IntFunction<T> factory;
+    private final ToIntFunction<T> idOf;
+    private final int size;
+    private volatile boolean filled;
+
+    private final ConcurrentLinkedQueue<T> idle = new ConcurrentLinkedQueue<>();
+    private final Set<Integer> created = ConcurrentHashMap.newKeySet();
+    private final AtomicInteger nextId;
+    private final ThreadPoolExecutor resets =
+            new ThreadPoolExecutor(1, 1, 0, TimeUnit.MILLISECONDS, new LinkedBlockingQueue<>(), THREADS);
+
+    private final LongAdder leases = new LongAdder();
+    private final LongAdder overflows = new LongAdder();
+    private final LongAdder resetCount = new LongAdder();
+    private final LongAdder replaced = new LongAdder();
+    private final LongAdder discarded = new LongAdder();
+    private final LongAdder notDeleted = new LongAdder();
+
+    private FixturePool(String name, ApiTransport transport, String endpoint, int size, int firstId,
+                        IntFunction<T> factory, ToIntFunction<T> idOf) {
+        this.name = name;
+        this.transport = transport;
+        this.endpoint = endpoint;
+        this.size = size;
+        this.nextId = new AtomicInteger(firstId);
+        this.factory = factory;
+        this.idOf = idOf;
+    }
+
+    /**
+     * Pool of {@code size} books with ids from {@code firstId} up, created on the first lease.
+     */
+    public static FixturePool<Book> books(ApiTransport transport, int size, int firstId) {
+        return new FixturePool<>("Books", transport, Config.BOOKS_ENDPOINT, size, firstId,
+                id -> Book.builder()
+                        .id(id)
+                        .title("Fixture Book " + id)
+                        .description("Leased fixture")
+                        .pageCount(100)
+                        .excerpt("Fixture excerpt")
+                        .publishDate("2024-01-01T00:00:00")
+                        .build(),
+                Book::getId);
+    }
+
+    /**
+     * Pool of {@code size} authors with ids from {@code firstId} up, all referencing book 1, created on the first
+     * lease.
+     */
+    public static FixturePool<Author> authors(ApiTransport transport, int size, int firstId) {
+        return new FixturePool<>("Authors", transport, Config.AUTHORS_ENDPOINT, size, firstId,
+                id -> Author.builder()
+                        .id(id)
+                        .idBook(1)
+                        .firstName("Fixture")
+                        .lastName("Author " + id)
+                        .build(),
+                Author::getId);
+    }
+
+    /**
+     * Leases an idle fixture, or creates one when none is idle. The first lease fills the pool.
+     */
+    public Lease<T> lease() {
+        if (!filled) {
+            fill();
+        }
+        leases.increment();
+        T fixture = idle.poll();
+        if (fixture == null) {
+            overflows.increment();
+            fixture = create();
+        }
+        return new Lease<>(this, fixture);
+    }
+
+    int idOf(T fixture) {
+        return idOf.applyAsInt(fixture);
+    }
+
+    /**
+     * Takes a fixture back. One that cannot be reset is not leased again (it is still deleted by {@link #close()}),
+     * and one that cannot be replaced leaves the pool a fixture short; both are logged and counted as discarded.
+     */
+    void release(Lease<T> lease) {
+        T fixture = lease.value();
+        switch (lease.state()) {
+            case UNTOUCHED -> idle.offer(fixture);
+            case MODIFIED -> resets.execute(() -> {
+                try {
+                    Response response = put(fixture);
+                    if (succeeded(response)) {
+                        resetCount.increment();
+                        idle.offer(fixture);
+                    } else {
+                        discard("reset", fixture, "HTTP " + response.getStatusCode());
+                    }
+                } catch (RuntimeException | AssertionError e) {
+                    discard("reset", fixture, e.toString());
+                }
+            });
+            case DELETED -> {
+                created.remove(idOf(fixture));
+                resets.execute(() -> {
+                    try {
+                        idle.offer(create());
+                        replaced.increment();
+                    } catch (RuntimeException | AssertionError e) {
+                        discard("replace", fixture, e.toString());
+                    }
+                });
+            }
+        }
+    }
+
+    /**
+     * Waits for pending resets, then deletes every fixture the pool created; those that could not be deleted are
+     * counted in the {@link #summary()}.
+     */
+    @Override
+    public void close() {
+        resets.close();
+        int[] ids = created.stream().mapToInt(Integer::intValue).sorted().toArray();
+        for (BulkOutcome outcome : Bulk.run(Arrays.stream(ids).boxed().toList(), this::delete)) {
+            if (outcome.failed() || !succeeded(outcome.response())) {
+                notDeleted.increment();
+            }
+        }
+        created.clear();
+        idle.clear();
+    }
+
+    /**
+     * One line of counters, e.g. for the end-of-suite log.
+     */
+    public String summary() {
+        return String.format(Locale.ROOT,
+                "%s fixtures: %d leases, %d created on demand, %d reset, %d replaced, %d discarded, %d not deleted",
+                name, leases.sum(), overflows.sum(), resetCount.sum(), replaced.sum(), discarded.sum(),
+                notDeleted.sum());
+    }
+
+    private void discard(String action, T fixture, String reason) {
+        discarded.increment();
+        log.warn("Could not {} {} fixture {}, it is no longer leased: {}", action, name, idOf(fixture), reason);
+    }
+
+    /**
+     * Creates the pool's {@code size} fixtures, once; concurrent first leases wait for it. Fixtures that cannot be
+     * created are logged and left out: leases then create them on demand, and fail if that fails too.
+     */
+    private synchronized void fill() {
+        if (filled) {
+            return;
+        }
+        List<T> fixtures = IntStream.range(0, size)
+                .mapToObj(i -> factory.apply(nextId.getAndIncrement()))
+                .toList();
+        List<BulkOutcome> outcomes = Bulk.run(fixtures, this::post);
+        int failed = 0;
+        Throwable firstFailure = null;
+        for (int i = 0; i < fixtures.size(); i++) {
+            try {
+                require(outcomes.get(i).orThrow(), fixtures.get(i));
+                idle.offer(fixtures.get(i));
+            } catch (RuntimeException | AssertionError e) {
+                failed++;
+                if (firstFailure == null) {
+                    firstFailure = e;
+                }
+            }
+        }
+        if (firstFailure != null) {
+            log.warn("Could not create {} of {} {} fixtures, they are created on demand: {}", failed, size, name,
+                    firstFailure.toString());
+        }
+        filled = true;
+    }
+
+    private T create() {
+        T fixture = factory.apply(nextId.getAndIncrement());
+        require(post(fixture), fixture);
+        return fixture;
+    }
+
+    private Response post(T fixture) {
+        return given()
+                .spec(transport.requestSpec())
+                .basePath(endpoint)
+                .header("Content-Type", "application/json")
+                .body(fixture)
+                .when()
+                .post()
+                .then()
+                .extract().response();
+    }
+
+    private Response put(T fixture) {
+        return given()
+                .spec(transport.requestSpec())
+                .basePath(endpoint)
+                .header("Content-Type", "application/json")
+                .body(fixture)
+                .when()
+                .put("/{id}", idOf(fixture))
+                .then()
+                .extract().response();
+    }
+
+    private Response delete(int id) {
+        return given()
+                .spec(transport.requestSpec())
+                .basePath(endpoint)
+                .when()
+                .delete("/{id}", id)
+                .then()
+                .extract().response();
+    }
+
+    private void require(Response response, T fixture) {
+        if (!succeeded(response)) {
+            throw new IllegalStateException(String.format(Locale.ROOT, "Could not create %s fixture %d: HTTP %d",
+                    name, idOf(fixture), response.getStatusCode()));
+        }
+        created.add(idOf(fixture));
+    }
+
+    private static boolean succeeded(Response response) {
+        return response.getStatusCode() >= 200 && response.getStatusCode() < 300;
+    }
+}
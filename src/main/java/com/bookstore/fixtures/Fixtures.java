@@ -0,0 +1,80 @@
+package com.bookstore.fixtures;
+
+import com.bookstore.clients.ApiTransport;
+import com.bookstore.config.Config;
+import com.bookstore.models.Author;
+import com.bookstore.models.Book;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * The Books and Authors {@link FixturePool}s of one {@link ApiTransport}, so each environment of a fan-out run
+ * leases fixtures that exist there. Sized by {@link Config#FIXTURE_POOL_SIZE}; ids start at
+ * {@link Config#FIXTURE_ID_BASE}, clear of the ids the tests use directly. When the suite is
+ * {@link Config#SHARD sharded}, each shard counts up from its own range of {@link #SHARD_ID_RANGE} ids, so the
+ * JVMs of one run never create, reset or delete each other's fixtures.
+ */
+public final class Fixtures {
+
+    static final int SHARD_ID_RANGE = 10_000;
+
+    private static final Map<ApiTransport, Fixtures> BY_TRANSPORT = new ConcurrentHashMap<>();
+
+    private final FixturePool<Book> books;
+    private final FixturePool<Author> authors;
+
+    private Fixtures(ApiTransport transport) {
+        int firstId = firstId(Config.FIXTURE_ID_BASE, Config.SHARD);
+        books = FixturePool.books(transport, Config.FIXTURE_POOL_SIZE, firstId);
+        authors = FixturePool.authors(transport, Config.FIXTURE_POOL_SIZE, firstId);
+    }
+
+    /**
+     * First fixture id for shard {@code i/n}: {@code base + (i - 1) * SHARD_ID_RANGE}; {@code base} when not
+     * sharded (a malformed shard is rejected by the shard interceptor).
+     */
+    static int firstId(int base, String shard) {
+        if (shard == null || shard.isBlank()) {
+            return base;
+        }
+        try {
+            int index = Integer.parseInt(shard.trim().split("/")[0].trim());
+            return base + Math.max(0, index - 1) * SHARD_ID_RANGE;
+        } catch (NumberFormatException e) {
+            return base;
+        }
+    }
+
+    /**
+     * Pools of {@code transport}, created on first use; each is filled by its own first lease.
+     */
+    public static Fixtures of(ApiTransport transport) {
+        return BY_TRANSPORT.computeIfAbsent(transport, Fixtures::new);
+    }
+
+    public FixturePool<Book> books() {
+        return books;
+    }
+
+    public FixturePool<Author> authors() {
+        return authors;
+    }
+
+    /**
+     * Deletes the fixtures of every transport and forgets the pools; returns their summaries.
+     */
+    public static List<String> closeAll() {
+        List<String> summaries = new ArrayList<>();
+        for (Fixtures fixtures : List.copyOf(BY_TRANSPORT.values())) {
+            fixtures.books.close();
+            fixtures.authors.close();
+            summaries.add(fixtures.books.summary());
+            summaries.add(fixtures.authors.summary());
+        }
+        BY_TRANSPORT.clear();
+        return summaries;
+    }
+}
@@ -0,0 +1,58 @@
+package com.bookstore.fixtures;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Exclusive use of one pooled fixture until {@link #close()}. Tell the pool what happened to it, so it can be
+ * handed out again as created: {@link #modified()} after changing it (it is reset), {@link #deleted()} after
+ * deleting it (it is replaced). An untouched fixture goes straight back to the pool.
+ */
+public final class Lease<T> implements AutoCloseable {
+
+    enum State { UNTOUCHED, MODIFIED, DELETED }
+
+    private final FixturePool<T> pool;
+    private final T fixture;
+    private final AtomicBoolean closed = new AtomicBoolean();
+    private volatile State state = State.UNTOUCHED;
+
+    Lease(FixturePool<T> pool, T fixture) {
+        this.pool = pool;
+        this.fixture = fixture;
+    }
+
+    /**
+     * The fixture as it was created. Build changed copies from it rather than mutating it.
+     */
+    public T value() {
+        return fixture;
+    }
+
+    public int id() {
+        return pool.idOf(fixture);
+    }
+
+    public void modified() {
+        if (state == State.UNTOUCHED) {
+            state = State.MODIFIED;
+        }
+    }
+
+    public void deleted() {
+        state = State.DELETED;
+    }
+
+    State state() {
+        return state;
+    }
+
+    /**
+     * Returns the fixture to the pool; later calls do nothing.
+     */
+    @Override
+    public void close() {
+        if (closed.compareAndSet(false, true)) {
+            pool.release(this);
+        }
+    }
+}
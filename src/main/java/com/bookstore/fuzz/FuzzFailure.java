@@ -0,0 +1,9 @@
+package com.bookstore.fuzz;
+
+/**
+ * One distinct violation found by a fuzz run: the first case that hit it, how often it was hit, and the
+ * payload it shrank to.
+ */
+public record FuzzFailure<T>(String violation, long caseIndex, long occurrences, T original, T shrunk,
+                             int shrinkSteps) {
+}
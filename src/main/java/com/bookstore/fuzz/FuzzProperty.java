@@ -0,0 +1,16 @@
+package com.bookstore.fuzz;
+
+import io.restassured.response.Response;
+
+/**
+ * What the target must satisfy for every input.
+ */
+@FunctionalInterface
+public interface FuzzProperty<T> {
+
+    /**
+     * A short description of how {@code response} violates the property for {@code input}, or {@code null}
+     * if it holds. Equal descriptions are reported as one failure, so keep input values out of them.
+     */
+    String violation(T input, Response response);
+}
@@ -0,0 +1,57 @@
+package com.bookstore.fuzz;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Result of a fuzz run: throughput, response status counts and the distinct violations found.
+ */
+public record FuzzReport<T>(String name, long seed, long cases, int concurrency, Duration elapsed,
+                            Map<Integer, Long> statusCounts, List<FuzzFailure<T>> failures) {
+
+    private static final Gson GSON = new GsonBuilder().disableHtmlEscaping().serializeNulls().create();
+    private static final int MAX_PAYLOAD_CHARS = 2_000;
+
+    public boolean passed() {
+        return failures.isEmpty();
+    }
+
+    public double casesPerMinute() {
+        return cases / Math.max(0.001, elapsed.toNanos() / 60_000_000_000d);
+    }
+
+    public String render() {
+        StringBuilder out = new StringBuilder();
+        out.append(String.format(Locale.ROOT, "%s: %d cases in %.1fs (%.0f cases/min, %d in flight), seed %d%n",
+                name, cases, elapsed.toNanos() / 1_000_000_000d, casesPerMinute(), concurrency, seed));
+        out.append("Status counts: ");
+        statusCounts.forEach((status, count) -> out.append(status == 0 ? "failed" : status).append('=')
+                .append(count).append(' '));
+        out.append('\n');
+        if (failures.isEmpty()) {
+            out.append("No violations\n");
+        }
+        for (FuzzFailure<T> failure : failures) {
+            out.append(String.format(Locale.ROOT, "%nViolation: %s (%d cases, first: case %d)%n",
+                    failure.violation(), failure.occurrences(), failure.caseIndex()));
+            out.append("Reproduce with -Dbookstore.fuzz.seed=").append(seed)
+                    .append(" (case ").append(failure.caseIndex()).append(")\n");
+            out.append("Shrunk in ").append(failure.shrinkSteps()).append(" steps to: ")
+                    .append(json(failure.shrunk())).append('\n');
+            out.append("Original: ").append(json(failure.original())).append('\n');
+        }
+        return out.toString();
+    }
+
+    private static String json(Object payload) {
+        String json = GSON.toJson(payload);
+        return json.length() <= MAX_PAYLOAD_CHARS
+                ? json
+                : json.substring(0, MAX_PAYLOAD_CHARS) + "... (" + json.length() + " chars)";
+    }
+}
@@ -0,0 +1,151 @@
+package com.bookstore.fuzz;
+
+import io.restassured.response.Response;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * Sends generated payloads to a target with a bounded number of requests in flight and checks every response
+ * against a {@link FuzzProperty}.
+ * <p>
+ * Case {@code i} of a run draws its payload from a random generator seeded with the run seed and {@code i},
+ * so any case is reproduced from the seed and its index, whatever the concurrency. After all cases have
+ * completed, the first case of each distinct violation is shrunk: simpler candidates from the
+ * {@link Shrinker} are sent one at a time and kept while they still produce the same violation.
+ * <p>
+ * The target is asynchronous (see {@link com.bookstore.clients.AsyncTransport}), so a window of thousands
+ * of requests does not need a thread per request.
+ */
+public final class Fuzzer<T> {
+
+    private static final int MAX_SHRINK_ATTEMPTS = 1_000;
+
+    private final String name;
+    private final Gen<T> gen;
+    private final Shrinker<T> shrinker;
+    private final Function<T, CompletableFuture<Response>> target;
+    private final FuzzProperty<T> property;
+
+    public Fuzzer(String name, Gen<T> gen, Shrinker<T> shrinker, Function<T, CompletableFuture<Response>> target,
+                  FuzzProperty<T> property) {
+        this.name = name;
+        this.gen = gen;
+        this.shrinker = shrinker;
+        this.target = target;
+        this.property = property;
+    }
+
+    /**
+     * The payload of case {@code index} of a run with {@code seed}.
+     */
+    public T payload(long seed, long index) {
+        return gen.next(new SplittableRandom(seed + index * 0x9E3779B97F4A7C15L));
+    }
+
+    public FuzzReport<T> run(long seed, long cases, int concurrency) {
+        Semaphore window = new Semaphore(concurrency);
+        Map<Integer, LongAdder> statuses = new ConcurrentHashMap<>();
+        Map<String, Hit<T>> hits = new ConcurrentHashMap<>();
+        long start = System.nanoTime();
+
+        for (long i = 0; i < cases; i++) {
+            window.acquireUninterruptibly();
+            long index = i;
+            T payload = payload(seed, index);
+            send(payload).whenComplete((result, ignored) -> {
+                statuses.computeIfAbsent(result.status, status -> new LongAdder()).increment();
+                if (result.violation != null) {
+                    hits.computeIfAbsent(result.violation, violation -> new Hit<>()).add(index, payload);
+                }
+                window.release();
+            });
+        }
+        window.acquireUninterruptibly(concurrency);
+        Duration elapsed = Duration.ofNanos(System.nanoTime() - start);
+
+        List<FuzzFailure<T>> failures = new ArrayList<>();
+        hits.entrySet().stream()
+                .sorted(Comparator.comparingLong(entry -> entry.getValue().firstIndex))
+                .forEach(entry -> failures.add(shrink(entry.getKey(), entry.getValue())));
+
+        Map<Integer, Long> statusCounts = new TreeMap<>();
+        statuses.forEach((status, count) -> statusCounts.put(status, count.sum()));
+        return new FuzzReport<>(name, seed, cases, concurrency, elapsed, statusCounts, failures);
+    }
+
+    private FuzzFailure<T> shrink(String violation, Hit<T> hit) {
+        T current = hit.firstPayload;
+        int steps = 0;
+        int attempts = 0;
+        boolean shrunk = true;
+        while (shrunk && attempts < MAX_SHRINK_ATTEMPTS) {
+            shrunk = false;
+            for (T candidate : shrinker.candidates(current)) {
+                if (++attempts > MAX_SHRINK_ATTEMPTS) {
+                    break;
+                }
+                if (violation.equals(send(candidate).join().violation)) {
+                    current = candidate;
+                    steps++;
+                    shrunk = true;
+                    break;
+                }
+            }
+        }
+        return new FuzzFailure<>(violation, hit.firstIndex, hit.count.sum(), hit.firstPayload, current, steps);
+    }
+
+    /**
+     * Never completes exceptionally: a failed request is a result with status {@code 0} and is itself
+     * a violation.
+     */
+    private CompletableFuture<Result> send(T payload) {
+        CompletableFuture<Response> response;
+        try {
+            response = target.apply(payload);
+        } catch (RuntimeException e) {
+            response = CompletableFuture.failedFuture(e);
+        }
+        return response.handle((received, error) -> {
+            if (error != null) {
+                Throwable cause = error instanceof CompletionException && error.getCause() != null
+                        ? error.getCause() : error;
+                return new Result(0, "request failed: " + cause.getClass().getSimpleName());
+            }
+            try {
+                return new Result(received.getStatusCode(), property.violation(payload, received));
+            } catch (RuntimeException e) {
+                return new Result(received.getStatusCode(), "unreadable response: " + e.getClass().getSimpleName());
+            }
+        });
+    }
+
+    private record Result(int status, String violation) {
+    }
+
+    private static final class Hit<T> {
+        final LongAdder count = new LongAdder();
+        long firstIndex = Long.MAX_VALUE;
+        T firstPayload;
+
+        synchronized void add(long index, T payload) {
+            count.increment();
+            if (index < firstIndex) {
+                firstIndex = index;
+                firstPayload = payload;
+            }
+        }
+    }
+}
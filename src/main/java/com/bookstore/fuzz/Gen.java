@@ -0,0 +1,28 @@
+package com.bookstore.fuzz;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * Generator of random values. A generator must derive its value from {@code random} alone, so the same seed
+ * always yields the same value; it should allocate no more than the value itself.
+ */
+@FunctionalInterface
+public interface Gen<T> {
+
+    T next(SplittableRandom random);
+
+    /**
+     * One of {@code values}, uniformly.
+     */
+    @SafeVarargs
+    static <T> Gen<T> oneOf(T... values) {
+        // Copied element by element: handing on the varargs array or its clone is a [varargs] lint warning
+        List<T> pool = new ArrayList<>(values.length);
+        for (T value : values) {
+            pool.add(value);
+        }
+        return random -> pool.get(random.nextInt(pool.size()));
+    }
+}
@@ -0,0 +1,133 @@
+package com.bookstore.fuzz;
+
+import com.bookstore.models.Author;
+import com.bookstore.models.Book;
+
+/**
+ * Generators for {@link Book} and {@link Author} payloads, biased towards values that tend to break APIs:
+ * integer boundaries, empty and huge strings, non-ASCII and control characters, and malformed dates.
+ * <p>
+ * Boundary values and huge strings come from fixed pools built once, so a generated payload allocates
+ * little beyond the payload object and its ordinary-sized strings. Strings are always well-formed UTF-16
+ * (no lone surrogates), so what is sent is exactly what was generated.
+ */
+public final class PayloadGens {
+
+    private static final int[] BOUNDARY_INTS = {
+            0, 1, -1, 2, 127, 128, 255, 256, 999_999, 32_767, 32_768, 65_535, 65_536,
+            Integer.MAX_VALUE, Integer.MAX_VALUE - 1, Integer.MIN_VALUE, Integer.MIN_VALUE + 1
+    };
+
+    // Fragments appended to generated strings: quoting, escapes, markup, RTL, combining marks, emoji, NUL
+    private static final String[] FRAGMENTS = {
+            "'", "\"", "\\", "/", "O'Brien-Smith", "<script>alert(1)</script>", "%s", "${x}", "' OR '1'='1",
+            "\u0000", "\t", "\n", "\r\n", "\u200B", "\u200F", "\u202E", "e\u0301", "\uFEFF",
+            "\u00E9", "\u00DF", "\u4E2D\u6587", "\u0627\u0644\u0639\u0631\u0628\u064A\u0629", "\uD83D\uDCDA",
+            "\uD83D\uDC68\u200D\uD83D\uDC69\u200D\uD83D\uDC67", "\uD834\uDD1E", "null", "NaN", "-0", "1e309"
+    };
+
+    private static final char[] ALPHANUMERIC =
+            "abcdefghijklmnopqrstuvwxyzABCDEFGHIJKLMNOPQRSTUVWXYZ0123456789 ".toCharArray();
+
+    // Built once: generating large strings per case would dominate the run
+    private static final String[] HUGE_STRINGS = {
+            "A".repeat(500), "A".repeat(1_000), "x".repeat(4_096), "\u00E9".repeat(65_536),
+            "\uD83D\uDCDA".repeat(16_384)
+    };
+
+    private static final String[] VALID_DATES = {
+            "2024-01-15T00:00:00", "2024-01-15", "2024-01-15T10:20:30.1234567+02:00", "2024-01-15T10:20:30Z",
+            "0001-01-01T00:00:00", "9999-12-31T23:59:59.9999999", "1970-01-01T00:00:00"
+    };
+
+    private static final String[] MALFORMED_DATES = {
+            "", " ", "2024-13-01T00:00:00", "2024-02-30T00:00:00", "2024-01-15T25:00:00", "15/01/2024",
+            "2024/01/15", "January 15, 2024", "2024-1-5", "20240115", "-2024-01-15", "2024-01-15T00:00:00+25:00",
+            "yesterday", "0000-00-00T00:00:00", "2024-01-15T00:00:00\u0000", "\uD83D\uDCC5"
+    };
+
+    private PayloadGens() {
+    }
+
+    /**
+     * Mostly boundary values, sometimes any int.
+     */
+    public static Gen<Integer> ints() {
+        return random -> random.nextInt(4) == 0
+                ? random.nextInt()
+                : BOUNDARY_INTS[random.nextInt(BOUNDARY_INTS.length)];
+    }
+
+    /**
+     * Strings from null and empty up to 128 KB of UTF-8, mixing plain text with special fragments.
+     */
+    public static Gen<String> strings() {
+        return random -> {
+            int shape = random.nextInt(200);
+            if (shape < 10) {
+                return null;
+            }
+            if (shape < 20) {
+                return "";
+            }
+            if (shape == 20) {
+                return HUGE_STRINGS[random.nextInt(HUGE_STRINGS.length)];
+            }
+            int length = random.nextInt(1, 64);
+            StringBuilder text = new StringBuilder(length + 16);
+            while (text.length() < length) {
+                if (random.nextInt(4) == 0) {
+                    text.append(FRAGMENTS[random.nextInt(FRAGMENTS.length)]);
+                } else {
+                    text.append(ALPHANUMERIC[random.nextInt(ALPHANUMERIC.length)]);
+                }
+            }
+            return text.toString();
+        };
+    }
+
+    /**
+     * {@code publishDate} values: mostly valid ISO 8601 shapes, often malformed or out-of-range ones, sometimes
+     * missing or arbitrary text.
+     */
+    public static Gen<String> dates() {
+        Gen<String> valid = Gen.oneOf(VALID_DATES);
+        Gen<String> malformed = Gen.oneOf(MALFORMED_DATES);
+        Gen<String> strings = strings();
+        return random -> {
+            int shape = random.nextInt(20);
+            if (shape < 12) {
+                return valid.next(random);
+            }
+            if (shape < 17) {
+                return malformed.next(random);
+            }
+            return shape == 17 ? null : strings.next(random);
+        };
+    }
+
+    public static Gen<Book> books() {
+        Gen<Integer> ints = ints();
+        Gen<String> strings = strings();
+        Gen<String> dates = dates();
+        return random -> Book.builder()
+                .id(ints.next(random))
+                .title(strings.next(random))
+                .description(strings.next(random))
+                .pageCount(ints.next(random))
+                .excerpt(strings.next(random))
+                .publishDate(dates.next(random))
+                .build();
+    }
+
+    public static Gen<Author> authors() {
+        Gen<Integer> ints = ints();
+        Gen<String> strings = strings();
+        return random -> Author.builder()
+                .id(ints.next(random))
+                .idBook(ints.next(random))
+                .firstName(strings.next(random))
+                .lastName(strings.next(random))
+                .build();
+    }
+}
@@ -0,0 +1,132 @@
+package com.bookstore.fuzz;
+
+import com.bookstore.models.Author;
+import com.bookstore.models.Book;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Proposes simpler variants of a failing value; {@link Fuzzer} keeps any variant that still fails and repeats
+ * until none does.
+ */
+@FunctionalInterface
+public interface Shrinker<T> {
+
+    /**
+     * Strictly simpler variants of {@code value}, most aggressive first.
+     */
+    List<T> candidates(T value);
+
+    static <T> Shrinker<T> none() {
+        return value -> List.of();
+    }
+
+    /**
+     * Towards zero: {@code 0}, half the value, one step closer.
+     */
+    static List<Integer> ints(int value) {
+        List<Integer> candidates = new ArrayList<>(3);
+        if (value != 0) {
+            candidates.add(0);
+        }
+        if (value / 2 != 0 && value / 2 != value) {
+            candidates.add(value / 2);
+        }
+        if (Math.abs((long) value) > 1) {
+            candidates.add(value - Integer.signum(value));
+        }
+        return candidates;
+    }
+
+    /**
+     * Towards {@code null}: null, empty, either half, and the same text with non-ASCII characters replaced.
+     */
+    static List<String> strings(String value) {
+        List<String> candidates = new ArrayList<>(5);
+        if (value == null) {
+            return candidates;
+        }
+        candidates.add(null);
+        if (value.isEmpty()) {
+            return candidates;
+        }
+        candidates.add("");
+        if (value.length() > 1) {
+            int half = value.offsetByCodePoints(0, value.codePointCount(0, value.length()) / 2);
+            candidates.add(value.substring(0, half));
+            candidates.add(value.substring(half));
+        }
+        if (value.chars().anyMatch(c -> c < 0x20 || c > 0x7E)) {
+            StringBuilder ascii = new StringBuilder(value.length());
+            value.codePoints().forEach(c -> ascii.append(c < 0x20 || c > 0x7E ? 'a' : (char) c));
+            candidates.add(ascii.toString());
+        }
+        return candidates;
+    }
+
+    /**
+     * Shrinks one field at a time, keeping the others.
+     */
+    static Shrinker<Book> books() {
+        return book -> {
+            List<Book> candidates = new ArrayList<>();
+            for (int id : ints(book.getId())) {
+                candidates.add(copy(book).id(id).build());
+            }
+            for (String title : strings(book.getTitle())) {
+                candidates.add(copy(book).title(title).build());
+            }
+            for (String description : strings(book.getDescription())) {
+                candidates.add(copy(book).description(description).build());
+            }
+            for (int pageCount : ints(book.getPageCount())) {
+                candidates.add(copy(book).pageCount(pageCount).build());
+            }
+            for (String excerpt : strings(book.getExcerpt())) {
+                candidates.add(copy(book).excerpt(excerpt).build());
+            }
+            for (String publishDate : strings(book.getPublishDate())) {
+                candidates.add(copy(book).publishDate(publishDate).build());
+            }
+            return candidates;
+        };
+    }
+
+    static Shrinker<Author> authors() {
+        return author -> {
+            List<Author> candidates = new ArrayList<>();
+            for (int id : ints(author.getId())) {
+                candidates.add(copy(author).id(id).build());
+            }
+            for (int idBook : ints(author.getIdBook())) {
+                candidates.add(copy(author).idBook(idBook).build());
+            }
+            for (String firstName : strings(author.getFirstName())) {
+                candidates.add(copy(author).firstName(firstName).build());
+            }
+            for (String lastName : strings(author.getLastName())) {
+                candidates.add(copy(author).lastName(lastName).build());
+            }
+            return candidates;
+        };
+    }
+
+    private static Book.Builder copy(Book book) {
+        return Book.builder()
+                .id(book.getId())
+                .title(book.getTitle())
+                .description(book.getDescription())
+                .pageCount(book.getPageCount())
+                .excerpt(book.getExcerpt())
+                .publishDate(book.getPublishDate());
+    }
+
+    private static Author.Builder copy(Author author) {
+        return Author.builder()
+                .id(author.getId())
+                .idBook(author.getIdBook())
+                .firstName(author.getFirstName())
+                .lastName(author.getLastName());
+    }
+}
@@ -0,0 +1,26 @@
+package com.bookstore.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * One Allure {@code @Step}, e.g. {@code Get book by ID: 5}, spanning the HTTP exchanges it made. Emitted by
+ * {@link StepEventListener}.
+ */
+@Name("com.bookstore.AllureStep")
+@Label("Allure Step")
+@Category({"Bookstore", "Allure"})
+@Description("Allure step of a client call")
+@StackTrace(false)
+public final class AllureStepEvent extends jdk.jfr.Event {
+
+    @Label("Step")
+    String name;
+
+    @Label("Status")
+    @Description("PASSED, FAILED, BROKEN or SKIPPED")
+    String status;
+}
@@ -0,0 +1,81 @@
+package com.bookstore.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+/**
+ * One HTTP exchange of the clients, on the thread that ran it, so a slow request lines up with the GC pauses,
+ * safepoints and socket reads around it in the recording. Begun before the request is sent and committed once
+ * the response (or failure) is in; when no recording is running, {@link #complete} costs a single check.
+ * <p>
+ * Phase timings are only known for the blocking transport. They are passed as {@code -1} and shown as N/A when
+ * the exchange reused a pooled connection (connect) or came from a cache, cassette or the asynchronous client
+ * (time to first byte).
+ */
+@Name("com.bookstore.HttpExchange")
+@Label("HTTP Exchange")
+@Category({"Bookstore", "HTTP"})
+@Description("HTTP request to the Bookstore API and its response")
+@StackTrace(false)
+public final class HttpExchangeEvent extends jdk.jfr.Event {
+
+    @Label("Method")
+    String method;
+
+    @Label("Endpoint")
+    @Description("Method and path template, e.g. GET /api/v1/Books/{id}; the actual path for the async client")
+    String endpoint;
+
+    @Label("Status")
+    @Description("HTTP status code, 0 when the exchange failed")
+    int status;
+
+    @Label("Bytes Sent")
+    @DataAmount
+    long bytesSent;
+
+    @Label("Bytes Received")
+    @DataAmount
+    long bytesReceived;
+
+    @Label("Connect")
+    @Timespan
+    long connect;
+
+    @Label("Time To First Byte")
+    @Timespan
+    long timeToFirstByte;
+
+    @Label("Error")
+    String error;
+
+    /**
+     * Ends the event and commits it with these values if a recording wants it.
+     */
+    public void complete(String method, String endpoint, int status, long bytesSent, long bytesReceived,
+                         long connectNanos, long timeToFirstByteNanos, Throwable failure) {
+        end();
+        if (!shouldCommit()) {
+            return;
+        }
+        this.method = method;
+        this.endpoint = endpoint;
+        this.status = status;
+        this.bytesSent = bytesSent;
+        this.bytesReceived = bytesReceived;
+        this.connect = unknownIfNegative(connectNanos);
+        this.timeToFirstByte = unknownIfNegative(timeToFirstByteNanos);
+        this.error = failure == null ? null : failure.toString();
+        commit();
+    }
+
+    private static long unknownIfNegative(long nanos) {
+        // Long.MIN_VALUE is JFR's "N/A" for a timespan
+        return nanos < 0 ? Long.MIN_VALUE : nanos;
+    }
+}
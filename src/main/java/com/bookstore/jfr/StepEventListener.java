@@ -0,0 +1,38 @@
+package com.bookstore.jfr;
+
+import io.qameta.allure.listener.StepLifecycleListener;
+import io.qameta.allure.model.StepResult;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+/**
+ * Turns every Allure step into an {@link AllureStepEvent}. Registered with Allure through
+ * {@code META-INF/services}. A step starts and stops on the same thread and steps nest, so the open events of
+ * a thread are kept on a stack.
+ */
+public final class StepEventListener implements StepLifecycleListener {
+
+    private static final ThreadLocal<Deque<AllureStepEvent>> OPEN = ThreadLocal.withInitial(ArrayDeque::new);
+
+    @Override
+    public void beforeStepStart(StepResult result) {
+        AllureStepEvent event = new AllureStepEvent();
+        event.begin();
+        OPEN.get().push(event);
+    }
+
+    @Override
+    public void afterStepStop(StepResult result) {
+        AllureStepEvent event = OPEN.get().poll();
+        if (event == null) {
+            return;
+        }
+        event.end();
+        if (event.shouldCommit()) {
+            event.name = result.getName();
+            event.status = result.getStatus() == null ? null : result.getStatus().name();
+            event.commit();
+        }
+    }
+}
@@ -0,0 +1,82 @@
+package com.bookstore.jfr;
+
+import jdk.jfr.Configuration;
+import jdk.jfr.Recording;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.text.ParseException;
+import java.time.Duration;
+
+/**
+ * The flight recording of the running suite, if one was started. It carries the JVM's events (GC, safepoints,
+ * thread parks, socket I/O, with the given settings) plus {@link HttpExchangeEvent}s and {@link AllureStepEvent}s.
+ * Events older than ten minutes are dropped, so a dump taken late in a long suite stays small.
+ */
+public final class SuiteRecording {
+
+    private static final Duration MAX_AGE = Duration.ofMinutes(10);
+
+    private static volatile SuiteRecording active;
+
+    private final Recording recording;
+    private final Path directory;
+
+    private SuiteRecording(Recording recording, Path directory) {
+        this.recording = recording;
+        this.directory = directory;
+    }
+
+    /**
+     * Starts recording with JFR's predefined {@code settings} ("default" or "profile"); dumps go to
+     * {@code directory}.
+     */
+    public static synchronized SuiteRecording start(String settings, Path directory) throws IOException {
+        if (active != null) {
+            return active;
+        }
+        Configuration configuration;
+        try {
+            configuration = Configuration.getConfiguration(settings);
+        } catch (ParseException e) {
+            throw new IOException("Unreadable JFR settings '" + settings + "'", e);
+        }
+        Files.createDirectories(directory);
+        Recording recording = new Recording(configuration);
+        recording.setName("bookstore-suite");
+        recording.setToDisk(true);
+        recording.setMaxAge(MAX_AGE);
+        recording.enable(HttpExchangeEvent.class);
+        recording.enable(AllureStepEvent.class);
+        recording.start();
+        active = new SuiteRecording(recording, directory);
+        return active;
+    }
+
+    /**
+     * The running recording, or {@code null} when the suite is not being recorded.
+     */
+    public static SuiteRecording active() {
+        return active;
+    }
+
+    /**
+     * Writes what has been recorded so far to {@code name.jfr}; the recording keeps running.
+     */
+    public Path dump(String name) throws IOException {
+        Path file = directory.resolve(name.replaceAll("[^A-Za-z0-9._-]", "_") + ".jfr");
+        recording.dump(file);
+        return file;
+    }
+
+    /**
+     * Stops and discards the recording; dump it first to keep it.
+     */
+    public static synchronized void stop() {
+        if (active != null) {
+            active.recording.close();
+            active = null;
+        }
+    }
+}
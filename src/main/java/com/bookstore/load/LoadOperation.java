@@ -0,0 +1,26 @@
+package com.bookstore.load;
+
+import io.restassured.response.Response;
+
+import java.util.function.IntPredicate;
+import java.util.function.Supplier;
+
+/**
+ * One named request type of a load run, e.g. {@code GET /Books/{id}}, with its share of the traffic and the
+ * status codes that count as success.
+ */
+public record LoadOperation(String name, int weight, Supplier<Response> call, IntPredicate expectedStatus) {
+
+    public LoadOperation {
+        if (weight <= 0) {
+            throw new IllegalArgumentException("Weight of operation '" + name + "' must be positive");
+        }
+    }
+
+    /**
+     * Operation that succeeds on any 2xx status.
+     */
+    public static LoadOperation of(String name, int weight, Supplier<Response> call) {
+        return new LoadOperation(name, weight, call, status -> status >= 200 && status < 300);
+    }
+}
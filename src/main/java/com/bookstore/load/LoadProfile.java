@@ -0,0 +1,36 @@
+package com.bookstore.load;
+
+import com.bookstore.config.Config;
+
+import java.time.Duration;
+
+/**
+ * Open-model load shape: requests are started at a fixed arrival rate for a fixed duration,
+ * independent of how fast the target answers.
+ */
+public record LoadProfile(double requestsPerSecond, Duration duration) {
+
+    public LoadProfile {
+        if (requestsPerSecond <= 0) {
+            throw new IllegalArgumentException("Arrival rate must be positive");
+        }
+        if (duration.isNegative() || duration.isZero()) {
+            throw new IllegalArgumentException("Duration must be positive");
+        }
+    }
+
+    /**
+     * Profile from {@code -Dbookstore.load.rate} and {@code -Dbookstore.load.durationSeconds}.
+     */
+    public static LoadProfile fromConfig() {
+        return new LoadProfile(Config.LOAD_RATE, Duration.ofSeconds(Config.LOAD_DURATION_SECONDS));
+    }
+
+    long intervalNanos() {
+        return Math.max(1L, Math.round(1_000_000_000d / requestsPerSecond));
+    }
+
+    long totalRequests() {
+        return Math.max(1L, Math.round(requestsPerSecond * duration.toNanos() / 1_000_000_000d));
+    }
+}
@@ -0,0 +1,58 @@
+package com.bookstore.load;
+
+import org.HdrHistogram.Histogram;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Result of a load run: per-operation latency percentiles, achieved throughput and error counts.
+ */
+public record LoadReport(LoadProfile profile, Duration elapsed, List<OperationStats> operations) {
+
+    public long totalRequests() {
+        return operations.stream().mapToLong(OperationStats::count).sum();
+    }
+
+    public long totalErrors() {
+        return operations.stream().mapToLong(OperationStats::errors).sum();
+    }
+
+    public double achievedThroughput() {
+        return totalRequests() / Math.max(0.001, elapsed.toNanos() / 1_000_000_000d);
+    }
+
+    public double errorRate() {
+        long total = totalRequests();
+        return total == 0 ? 0 : (double) totalErrors() / total;
+    }
+
+    /**
+     * Plain-text table, one line per operation, latencies in milliseconds.
+     */
+    public String render() {
+        StringBuilder out = new StringBuilder();
+        out.append(String.format(Locale.ROOT, "Target rate: %.1f req/s for %ds, achieved: %.1f req/s, errors: %d/%d%n",
+                profile.requestsPerSecond(), profile.duration().toSeconds(), achievedThroughput(),
+                totalErrors(), totalRequests()));
+        out.append("Latency from intended start (coordinated-omission corrected), ms\n");
+        out.append(String.format(Locale.ROOT, "%-28s %8s %7s %9s %9s %9s %9s %9s%n",
+                "operation", "count", "errors", "p50", "p90", "p99", "p99.9", "max"));
+        for (OperationStats stats : operations) {
+            Histogram latency = stats.latency();
+            out.append(String.format(Locale.ROOT, "%-28s %8d %7d %9.2f %9.2f %9.2f %9.2f %9.2f%n",
+                    stats.name(), stats.count(), stats.errors(),
+                    millis(latency.getValueAtPercentile(50)),
+                    millis(latency.getValueAtPercentile(90)),
+                    millis(latency.getValueAtPercentile(99)),
+                    millis(latency.getValueAtPercentile(99.9)),
+                    millis(latency.getMaxValue())));
+        }
+        return out.toString();
+    }
+
+    private static double millis(long micros) {
+        return micros / 1_000d;
+    }
+}
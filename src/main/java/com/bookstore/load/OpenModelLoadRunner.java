@@ -0,0 +1,85 @@
+package com.bookstore.load;
+
+import io.restassured.response.Response;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Drives a weighted mix of {@link LoadOperation}s at a fixed arrival rate (open model).
+ * <p>
+ * Every request has an intended start time on a fixed schedule and is dispatched on its own thread,
+ * so a slow response never delays the following arrivals. Latency is measured from the intended start time,
+ * which keeps queueing delay in the numbers even when the dispatcher itself falls behind.
+ * Request threads do not inherit the caller's inheritable thread-locals, so load traffic is not attached to the
+ * running test as Allure steps or captured exchanges.
+ */
+public final class OpenModelLoadRunner {
+
+    private static final ThreadFactory REQUEST_THREADS = Thread.ofPlatform()
+            .daemon()
+            .name("load-", 0)
+            .inheritInheritableThreadLocals(false)
+            .factory();
+
+    private final List<LoadOperation> operations;
+
+    public OpenModelLoadRunner(List<LoadOperation> operations) {
+        if (operations.isEmpty()) {
+            throw new IllegalArgumentException("At least one operation is required");
+        }
+        this.operations = List.copyOf(operations);
+    }
+
+    public LoadReport run(LoadProfile profile) {
+        List<OperationStats> stats = new ArrayList<>();
+        int totalWeight = 0;
+        for (LoadOperation operation : operations) {
+            stats.add(new OperationStats(operation.name()));
+            totalWeight += operation.weight();
+        }
+        // Deterministic weighted round-robin: slot i of every cycle of totalWeight requests maps to one operation
+        int[] slots = new int[totalWeight];
+        for (int op = 0, slot = 0; op < operations.size(); op++) {
+            for (int w = 0; w < operations.get(op).weight(); w++) {
+                slots[slot++] = op;
+            }
+        }
+
+        long interval = profile.intervalNanos();
+        long total = profile.totalRequests();
+        long start = System.nanoTime();
+
+        try (ExecutorService executor = Executors.newThreadPerTaskExecutor(REQUEST_THREADS)) {
+            for (long i = 0; i < total; i++) {
+                long intendedStart = start + i * interval;
+                long wait;
+                while ((wait = intendedStart - System.nanoTime()) > 0) {
+                    LockSupport.parkNanos(wait);
+                }
+                int op = slots[(int) (i % totalWeight)];
+                executor.execute(() -> execute(operations.get(op), stats.get(op), intendedStart));
+            }
+            // close() waits for the requests still in flight
+        }
+        return new LoadReport(profile, Duration.ofNanos(System.nanoTime() - start), stats);
+    }
+
+    private static void execute(LoadOperation operation, OperationStats stats, long intendedStart) {
+        long actualStart = System.nanoTime();
+        boolean success;
+        try {
+            Response response = operation.call().get();
+            success = operation.expectedStatus().test(response.getStatusCode());
+        } catch (Exception | AssertionError e) {
+            // Includes schema violations of otherwise successful responses
+            success = false;
+        }
+        stats.record(intendedStart, actualStart, System.nanoTime(), success);
+    }
+}
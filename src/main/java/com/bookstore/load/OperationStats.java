@@ -0,0 +1,59 @@
+package com.bookstore.load;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Latency and outcome counters of one operation. Latencies are recorded in microseconds and measured from the
+ * request's intended start time, which corrects for coordinated omission when the target falls behind.
+ */
+public final class OperationStats {
+
+    private static final long MAX_TRACKABLE_MICROS = TimeUnit.MINUTES.toMicros(10);
+
+    private final String name;
+    private final Histogram latency = new ConcurrentHistogram(MAX_TRACKABLE_MICROS, 3);
+    private final Histogram serviceTime = new ConcurrentHistogram(MAX_TRACKABLE_MICROS, 3);
+    private final LongAdder errors = new LongAdder();
+
+    OperationStats(String name) {
+        this.name = name;
+    }
+
+    void record(long intendedStartNanos, long actualStartNanos, long endNanos, boolean success) {
+        latency.recordValue(Math.min(MAX_TRACKABLE_MICROS, (endNanos - intendedStartNanos) / 1_000));
+        serviceTime.recordValue(Math.min(MAX_TRACKABLE_MICROS, (endNanos - actualStartNanos) / 1_000));
+        if (!success) {
+            errors.increment();
+        }
+    }
+
+    public String name() {
+        return name;
+    }
+
+    public long count() {
+        return latency.getTotalCount();
+    }
+
+    public long errors() {
+        return errors.sum();
+    }
+
+    /**
+     * Coordinated-omission corrected latency histogram (microseconds).
+     */
+    public Histogram latency() {
+        return latency;
+    }
+
+    /**
+     * Uncorrected time from actually sending the request to the response (microseconds).
+     */
+    public Histogram serviceTime() {
+        return serviceTime;
+    }
+}
@@ -0,0 +1,232 @@
+package com.bookstore.metrics;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Function;
+
+/**
+ * Registry of per-endpoint HTTP timings, fed by {@link MetricsFilter} and exported at the end of a run as a
+ * plain-text summary and in the Prometheus text exposition format.
+ */
+public final class EndpointMetrics {
+
+    private static final EndpointMetrics GLOBAL = new EndpointMetrics();
+    private static final ConcurrentMap<String, EndpointMetrics> ENVIRONMENTS = new ConcurrentHashMap<>();
+
+    /** Upper bounds of the request duration histogram, in seconds. */
+    private static final double[] BUCKETS = {0.005, 0.01, 0.025, 0.05, 0.1, 0.25, 0.5, 1, 2.5, 5, 10};
+    private static final double[] QUANTILES = {0.5, 0.9, 0.99};
+
+    private final ConcurrentMap<String, EndpointStats> endpoints = new ConcurrentHashMap<>();
+
+    /**
+     * Registry shared by every {@link com.bookstore.clients.ApiTransport} in this JVM.
+     */
+    public static EndpointMetrics global() {
+        return GLOBAL;
+    }
+
+    /**
+     * Registry of the exchanges with one environment of a fan-out run; they are in {@link #global()} as well.
+     */
+    public static EndpointMetrics environment(String name) {
+        return ENVIRONMENTS.computeIfAbsent(name, k -> new EndpointMetrics());
+    }
+
+    public EndpointStats endpoint(String method, String path) {
+        String key = method + " " + path;
+        EndpointStats stats = endpoints.get(key);
+        return stats != null ? stats : endpoints.computeIfAbsent(key, k -> new EndpointStats(method, path));
+    }
+
+    /**
+     * Endpoints seen so far, ordered by path then method.
+     */
+    public List<EndpointStats> endpoints() {
+        return endpoints.values().stream()
+                .sorted(Comparator.comparing(EndpointStats::path).thenComparing(EndpointStats::method))
+                .toList();
+    }
+
+    public boolean isEmpty() {
+        return endpoints.isEmpty();
+    }
+
+    /**
+     * Plain-text table, one line per endpoint, durations in milliseconds.
+     */
+    public String renderSummary() {
+        StringBuilder out = new StringBuilder();
+        out.append(String.format(Locale.ROOT, "%-36s %7s %6s %8s %8s %8s %8s %9s %9s %10s %10s%n",
+                "endpoint", "count", "errors", "p50", "p90", "p99", "max", "ttfb p50", "conn p50",
+                "bytes out", "bytes in"));
+        for (EndpointStats stats : endpoints()) {
+            EndpointStats.Timer total = stats.total();
+            out.append(String.format(Locale.ROOT, "%-36s %7d %6d %8.1f %8.1f %8.1f %8.1f %9.1f %9.1f %10d %10d%n",
+                    stats.name(), stats.count(), stats.errors(),
+                    millis(total.percentileMicros(50)), millis(total.percentileMicros(90)),
+                    millis(total.percentileMicros(99)), millis(total.maxMicros()),
+                    millis(stats.firstByte().percentileMicros(50)), millis(stats.connect().percentileMicros(50)),
+                    stats.bytesOut(), stats.bytesIn()));
+        }
+        return out.toString();
+    }
+
+    /**
+     * Side-by-side table of several registries (one column group per entry, in map order), one line per
+     * endpoint seen in any of them, durations in milliseconds.
+     */
+    public static String renderComparison(Map<String, EndpointMetrics> columns) {
+        // Ordered like endpoints(): by path, then method
+        Set<String> names = new TreeSet<>(Comparator.comparing((String name) -> name.substring(name.indexOf(' ') + 1))
+                .thenComparing(Comparator.naturalOrder()));
+        columns.values().forEach(metrics -> metrics.endpoints.keySet().forEach(names::add));
+
+        StringBuilder out = new StringBuilder();
+        out.append(String.format(Locale.ROOT, "%-36s", ""));
+        columns.keySet().forEach(column -> out.append(String.format(Locale.ROOT, " | %-39.39s", column)));
+        out.append(String.format(Locale.ROOT, "%n%-36s", "endpoint"));
+        columns.keySet().forEach(column -> out.append(String.format(Locale.ROOT, " | %6s %5s %8s %8s %8s",
+                "count", "err", "p50", "p90", "p99")));
+        out.append(System.lineSeparator());
+        for (String name : names) {
+            out.append(String.format(Locale.ROOT, "%-36s", name));
+            for (EndpointMetrics metrics : columns.values()) {
+                EndpointStats stats = metrics.endpoints.get(name);
+                if (stats == null) {
+                    out.append(String.format(Locale.ROOT, " | %6s %5s %8s %8s %8s", "-", "-", "-", "-", "-"));
+                    continue;
+                }
+                EndpointStats.Timer total = stats.total();
+                out.append(String.format(Locale.ROOT, " | %6d %5d %8.1f %8.1f %8.1f", stats.count(), stats.errors(),
+                        millis(total.percentileMicros(50)), millis(total.percentileMicros(90)),
+                        millis(total.percentileMicros(99))));
+            }
+            out.append(System.lineSeparator());
+        }
+        return out.toString();
+    }
+
+    /**
+     * All endpoints in the Prometheus text exposition format (version 0.0.4).
+     */
+    public String renderPrometheus() {
+        List<EndpointStats> all = endpoints();
+        StringBuilder out = new StringBuilder();
+
+        header(out, "bookstore_http_requests_total", "counter", "HTTP responses by endpoint and status class.");
+        for (EndpointStats stats : all) {
+            for (int statusClass = 1; statusClass <= 5; statusClass++) {
+                long count = stats.responses(statusClass);
+                if (count > 0) {
+                    sample(out, "bookstore_http_requests_total", labels(stats) + ",status=\"" + statusClass + "xx\"",
+                            count);
+                }
+            }
+        }
+
+        header(out, "bookstore_http_request_errors_total", "counter", "Exchanges that ended without a response.");
+        for (EndpointStats stats : all) {
+            sample(out, "bookstore_http_request_errors_total", labels(stats), stats.errors());
+        }
+
+        header(out, "bookstore_http_request_duration_seconds", "histogram",
+                "Whole exchange as seen by the client, up to the fully read response.");
+        for (EndpointStats stats : all) {
+            EndpointStats.Timer total = stats.total();
+            for (double bucket : BUCKETS) {
+                sample(out, "bookstore_http_request_duration_seconds_bucket",
+                        labels(stats) + ",le=\"" + format(bucket) + "\"",
+                        total.countAtOrBelowMicros((long) (bucket * 1_000_000)));
+            }
+            sample(out, "bookstore_http_request_duration_seconds_bucket", labels(stats) + ",le=\"+Inf\"",
+                    total.count());
+            sample(out, "bookstore_http_request_duration_seconds_sum", labels(stats), seconds(total.sumMicros()));
+            sample(out, "bookstore_http_request_duration_seconds_count", labels(stats), total.count());
+        }
+
+        summary(out, all, "bookstore_http_time_to_first_byte_seconds",
+                "Time from writing the request to the response headers.", EndpointStats::firstByte);
+        summary(out, all, "bookstore_http_connect_seconds",
+                "Time to open a new connection (DNS, TCP, TLS); reused connections are not counted.",
+                EndpointStats::connect);
+
+        header(out, "bookstore_http_request_bytes_total", "counter", "Request body bytes sent.");
+        for (EndpointStats stats : all) {
+            sample(out, "bookstore_http_request_bytes_total", labels(stats), stats.bytesOut());
+        }
+        header(out, "bookstore_http_response_bytes_total", "counter", "Response body bytes received.");
+        for (EndpointStats stats : all) {
+            sample(out, "bookstore_http_response_bytes_total", labels(stats), stats.bytesIn());
+        }
+        return out.toString();
+    }
+
+    public void writePrometheus(Path file) throws IOException {
+        if (file.getParent() != null) {
+            Files.createDirectories(file.getParent());
+        }
+        Files.writeString(file, renderPrometheus(), StandardCharsets.UTF_8);
+    }
+
+    private static void summary(StringBuilder out, List<EndpointStats> all, String name, String help,
+                                Function<EndpointStats, EndpointStats.Timer> timer) {
+        header(out, name, "summary", help);
+        for (EndpointStats stats : all) {
+            EndpointStats.Timer t = timer.apply(stats);
+            if (t.count() == 0) {
+                continue;
+            }
+            for (double quantile : QUANTILES) {
+                sample(out, name, labels(stats) + ",quantile=\"" + format(quantile) + "\"",
+                        seconds(t.percentileMicros(quantile * 100)));
+            }
+            sample(out, name + "_sum", labels(stats), seconds(t.sumMicros()));
+            sample(out, name + "_count", labels(stats), t.count());
+        }
+    }
+
+    private static void header(StringBuilder out, String name, String type, String help) {
+        out.append("# HELP ").append(name).append(' ').append(help).append('\n');
+        out.append("# TYPE ").append(name).append(' ').append(type).append('\n');
+    }
+
+    private static void sample(StringBuilder out, String name, String labels, long value) {
+        out.append(name).append('{').append(labels).append("} ").append(value).append('\n');
+    }
+
+    private static void sample(StringBuilder out, String name, String labels, double value) {
+        out.append(name).append('{').append(labels).append("} ").append(format(value)).append('\n');
+    }
+
+    private static String labels(EndpointStats stats) {
+        return "method=\"" + escape(stats.method()) + "\",path=\"" + escape(stats.path()) + "\"";
+    }
+
+    private static String escape(String value) {
+        return value.replace("\\", "\\\\").replace("\"", "\\\"").replace("\n", "\\n");
+    }
+
+    private static String format(double value) {
+        return value == Math.rint(value) && Math.abs(value) < 1e15
+                ? Long.toString((long) value) : Double.toString(value);
+    }
+
+    private static double seconds(long micros) {
+        return micros / 1_000_000d;
+    }
+
+    private static double millis(long micros) {
+        return micros / 1_000d;
+    }
+}
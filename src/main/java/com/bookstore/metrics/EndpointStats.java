@@ -0,0 +1,156 @@
+package com.bookstore.metrics;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Aggregated timings of one endpoint, e.g. {@code GET /api/v1/Books/{id}}. Durations are kept in microseconds.
+ * <p>
+ * Recording is lock-free: counters are striped {@link LongAdder}s and the histograms are HdrHistogram
+ * {@link ConcurrentHistogram}s, so parallel tests never contend on a monitor.
+ */
+public final class EndpointStats {
+
+    private static final long MAX_TRACKABLE_MICROS = TimeUnit.MINUTES.toMicros(10);
+
+    private final String method;
+    private final String path;
+
+    private final LongAdder errors = new LongAdder();
+    private final LongAdder[] statusClasses = new LongAdder[6];
+    private final LongAdder bytesOut = new LongAdder();
+    private final LongAdder bytesIn = new LongAdder();
+
+    private final Timer total = new Timer();
+    private final Timer connect = new Timer();
+    private final Timer firstByte = new Timer();
+
+    EndpointStats(String method, String path) {
+        this.method = method;
+        this.path = path;
+        for (int i = 0; i < statusClasses.length; i++) {
+            statusClasses[i] = new LongAdder();
+        }
+    }
+
+    void record(int status, long totalNanos, long connectNanos, long firstByteNanos, long sent, long received) {
+        statusClasses[status >= 100 && status < 600 ? status / 100 : 0].increment();
+        total.record(totalNanos);
+        if (connectNanos >= 0) {
+            connect.record(connectNanos);
+        }
+        if (firstByteNanos >= 0) {
+            firstByte.record(firstByteNanos);
+        }
+        bytesOut.add(sent);
+        bytesIn.add(received);
+    }
+
+    void recordError(long totalNanos, long sent) {
+        errors.increment();
+        total.record(totalNanos);
+        bytesOut.add(sent);
+    }
+
+    public String method() {
+        return method;
+    }
+
+    /**
+     * Path template, e.g. {@code /api/v1/Books/{id}}.
+     */
+    public String path() {
+        return path;
+    }
+
+    public String name() {
+        return method + " " + path;
+    }
+
+    /**
+     * Exchanges recorded, including failed ones.
+     */
+    public long count() {
+        return total.histogram.getTotalCount();
+    }
+
+    /**
+     * Exchanges that ended without a response (connection errors, timeouts).
+     */
+    public long errors() {
+        return errors.sum();
+    }
+
+    /**
+     * Responses with status {@code statusClass}xx; class {@code 0} counts unexpected codes.
+     */
+    public long responses(int statusClass) {
+        return statusClasses[statusClass].sum();
+    }
+
+    public long bytesOut() {
+        return bytesOut.sum();
+    }
+
+    public long bytesIn() {
+        return bytesIn.sum();
+    }
+
+    /**
+     * Whole exchange as seen by the client, from the filter to the fully read response.
+     */
+    public Timer total() {
+        return total;
+    }
+
+    /**
+     * Opening a new connection (DNS, TCP, TLS). Exchanges on a reused pooled connection are not counted.
+     */
+    public Timer connect() {
+        return connect;
+    }
+
+    /**
+     * Request written until the response headers arrived.
+     */
+    public Timer firstByte() {
+        return firstByte;
+    }
+
+    /**
+     * Latency histogram with an exact running sum, as Prometheus summaries and histograms need one.
+     */
+    public static final class Timer {
+        private final Histogram histogram = new ConcurrentHistogram(MAX_TRACKABLE_MICROS, 3);
+        private final LongAdder sumMicros = new LongAdder();
+
+        void record(long nanos) {
+            long micros = Math.min(MAX_TRACKABLE_MICROS, Math.max(0, nanos / 1_000));
+            histogram.recordValue(micros);
+            sumMicros.add(micros);
+        }
+
+        public long count() {
+            return histogram.getTotalCount();
+        }
+
+        public long sumMicros() {
+            return sumMicros.sum();
+        }
+
+        public long percentileMicros(double percentile) {
+            return histogram.getValueAtPercentile(percentile);
+        }
+
+        public long countAtOrBelowMicros(long micros) {
+            return histogram.getCountBetweenValues(0, micros);
+        }
+
+        public long maxMicros() {
+            return histogram.getMaxValue();
+        }
+    }
+}
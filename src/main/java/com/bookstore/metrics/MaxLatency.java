@@ -0,0 +1,43 @@
+package com.bookstore.metrics;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Latency budget for the HTTP calls a test makes, e.g. {@code @MaxLatency(p = 99, millis = 300)}: the 99th
+ * percentile of the test's exchanges must not exceed 300 ms.
+ * <p>
+ * Allowed on test methods and test classes; a method annotation overrides the class one. Enforced by the
+ * {@code LatencyBudgetListener} registered in {@code testng.xml}. Only exchanges that reach the network through
+ * the blocking clients are measured.
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.METHOD, ElementType.TYPE})
+public @interface MaxLatency {
+
+    /**
+     * Percentile of the test's HTTP calls that must stay within the budget, from 0 (exclusive) to 100.
+     */
+    double p() default 99;
+
+    /**
+     * Budget in milliseconds.
+     */
+    long millis();
+
+    /**
+     * What happens when the budget is exceeded.
+     */
+    Action action() default Action.FAIL;
+
+    enum Action {
+        /** Fail an otherwise passing test. */
+        FAIL,
+        /** Log a warning and attach it to the report; the test result is unchanged. */
+        WARN
+    }
+}
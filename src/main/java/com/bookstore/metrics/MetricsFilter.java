@@ -0,0 +1,156 @@
+package com.bookstore.metrics;
+
+import com.bookstore.jfr.HttpExchangeEvent;
+import io.restassured.filter.Filter;
+import io.restassured.filter.FilterContext;
+import io.restassured.response.Response;
+import io.restassured.specification.FilterableRequestSpecification;
+import io.restassured.specification.FilterableResponseSpecification;
+
+/**
+ * Times every exchange and records it in {@link EndpointMetrics} under its method and path template,
+ * e.g. {@code GET /api/v1/Books/{id}}, and in the running test's {@link TestLatencies}. A transport that serves one
+ * of several environments also records into that environment's registry.
+ * <p>
+ * Connect time and time-to-first-byte are reported by the transport through {@link #recordConnect(long)},
+ * {@link #markRequestSent()} and {@link #markFirstByte()}, which its HTTP client calls on the thread executing
+ * the request. When the body is
+ * buffered by an inner filter its actual size is counted; otherwise the {@code Content-Length} header is used.
+ * Exchanges that fail because their thread was interrupted were cancelled on purpose and are not recorded.
+ * Every exchange is also emitted as an {@link HttpExchangeEvent} for a running flight recording, cancelled ones
+ * included.
+ */
+public final class MetricsFilter implements Filter {
+
+    private static final ThreadLocal<long[]> MARKS = ThreadLocal.withInitial(() -> new long[3]);
+    private static final int CONNECT = 0;
+    private static final int REQUEST_SENT = 1;
+    private static final int FIRST_BYTE = 2;
+
+    private final EndpointMetrics metrics;
+    private final EndpointMetrics scoped;
+    private final boolean bodyBuffered;
+
+    public MetricsFilter(EndpointMetrics metrics, boolean bodyBuffered) {
+        this(metrics, null, bodyBuffered);
+    }
+
+    /**
+     * Records into {@code metrics} and, unless {@code null}, into {@code scoped} as well.
+     */
+    public MetricsFilter(EndpointMetrics metrics, EndpointMetrics scoped, boolean bodyBuffered) {
+        this.metrics = metrics;
+        this.scoped = scoped;
+        this.bodyBuffered = bodyBuffered;
+    }
+
+    /**
+     * A new connection was opened (DNS, TCP and TLS) in {@code nanos}.
+     */
+    public static void recordConnect(long nanos) {
+        MARKS.get()[CONNECT] = nanos;
+    }
+
+    /**
+     * The connection is ready and the request is about to be written.
+     */
+    public static void markRequestSent() {
+        MARKS.get()[REQUEST_SENT] = System.nanoTime();
+    }
+
+    /**
+     * Response headers have been received.
+     */
+    public static void markFirstByte() {
+        MARKS.get()[FIRST_BYTE] = System.nanoTime();
+    }
+
+    @Override
+    public Response filter(FilterableRequestSpecification requestSpec,
+                           FilterableResponseSpecification responseSpec,
+                           FilterContext ctx) {
+        String path = requestSpec.getBasePath() + requestSpec.getUserDefinedPath();
+        EndpointStats stats = metrics.endpoint(requestSpec.getMethod(), path);
+        EndpointStats scopedStats = scoped != null ? scoped.endpoint(requestSpec.getMethod(), path) : null;
+        long sent = bodySize(requestSpec.getBody());
+        long[] marks = MARKS.get();
+        marks[CONNECT] = -1;
+        marks[REQUEST_SENT] = 0;
+        marks[FIRST_BYTE] = 0;
+
+        StartupTimes.markFirstRequest();
+        HttpExchangeEvent event = new HttpExchangeEvent();
+        event.begin();
+        long start = System.nanoTime();
+        Response response;
+        try {
+            response = ctx.next(requestSpec, responseSpec);
+        } catch (RuntimeException e) {
+            event.complete(requestSpec.getMethod(), stats.name(), 0, sent, 0, marks[CONNECT], -1, e);
+            if (Thread.currentThread().isInterrupted()) {
+                // Cancelled by the caller (e.g. the losing attempt of a hedged GET), not a failed exchange
+                throw e;
+            }
+            long elapsed = System.nanoTime() - start;
+            stats.recordError(elapsed, sent);
+            if (scopedStats != null) {
+                scopedStats.recordError(elapsed, sent);
+            }
+            TestLatencies.record(stats.name(), elapsed);
+            throw e;
+        }
+        long end = System.nanoTime();
+        TestLatencies.record(stats.name(), end - start);
+
+        long firstByte = marks[REQUEST_SENT] != 0 && marks[FIRST_BYTE] != 0
+                ? marks[FIRST_BYTE] - marks[REQUEST_SENT] : -1;
+        long received = received(response);
+        stats.record(response.getStatusCode(), end - start, marks[CONNECT], firstByte, sent, received);
+        if (scopedStats != null) {
+            scopedStats.record(response.getStatusCode(), end - start, marks[CONNECT], firstByte, sent, received);
+        }
+        event.complete(requestSpec.getMethod(), stats.name(), response.getStatusCode(), sent, received,
+                marks[CONNECT], firstByte, null);
+        return response;
+    }
+
+    private long received(Response response) {
+        if (bodyBuffered) {
+            return response.asByteArray().length;
+        }
+        String contentLength = response.getHeader("Content-Length");
+        try {
+            return contentLength == null ? 0 : Long.parseLong(contentLength.trim());
+        } catch (NumberFormatException e) {
+            return 0;
+        }
+    }
+
+    private static long bodySize(Object body) {
+        if (body == null) {
+            return 0;
+        }
+        if (body instanceof byte[] bytes) {
+            return bytes.length;
+        }
+        return utf8Length(body.toString());
+    }
+
+    private static long utf8Length(CharSequence text) {
+        long length = 0;
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c < 0x80) {
+                length++;
+            } else if (c < 0x800) {
+                length += 2;
+            } else if (Character.isHighSurrogate(c)) {
+                length += 4;
+                i++;
+            } else {
+                length += 3;
+            }
+        }
+        return length;
+    }
+}
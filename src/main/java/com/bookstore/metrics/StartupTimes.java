@@ -0,0 +1,69 @@
+package com.bookstore.metrics;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.RuntimeMXBean;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * How long the JVM took to get going: from JVM start to the start of the suite and to the first HTTP request,
+ * with the number of classes loaded by then and whether class data sharing (CDS) was in use. For short runs
+ * this is a large share of the total time; see the {@code fast-start} profile.
+ * <p>
+ * {@link #markFirstRequest()} is called by the transports for every request, so after the first call it is a
+ * single volatile read.
+ */
+public final class StartupTimes {
+
+    private static final AtomicLong SUITE_START = new AtomicLong();
+    private static final AtomicLong FIRST_REQUEST = new AtomicLong();
+    private static volatile int classesAtFirstRequest;
+
+    private StartupTimes() {
+    }
+
+    public static void markSuiteStart() {
+        SUITE_START.compareAndSet(0, System.currentTimeMillis());
+    }
+
+    public static void markFirstRequest() {
+        if (FIRST_REQUEST.get() == 0 && FIRST_REQUEST.compareAndSet(0, System.currentTimeMillis())) {
+            classesAtFirstRequest = ManagementFactory.getClassLoadingMXBean().getLoadedClassCount();
+        }
+    }
+
+    /**
+     * One line, e.g. {@code JVM start to suite start 1480 ms, to first HTTP request 2130 ms (5120 classes
+     * loaded); CDS: ...}; {@code -} for a phase not reached.
+     */
+    public static String render() {
+        RuntimeMXBean runtime = ManagementFactory.getRuntimeMXBean();
+        long jvmStart = runtime.getStartTime();
+        return String.format(Locale.ROOT,
+                "JVM start to suite start %s, to first HTTP request %s (%d classes loaded); CDS: %s",
+                since(jvmStart, SUITE_START.get()), since(jvmStart, FIRST_REQUEST.get()), classesAtFirstRequest,
+                sharing(runtime));
+    }
+
+    private static String since(long jvmStart, long mark) {
+        return mark == 0 ? "-" : (mark - jvmStart) + " ms";
+    }
+
+    private static String sharing(RuntimeMXBean runtime) {
+        if (!System.getProperty("java.vm.info", "").contains("sharing")) {
+            return "off";
+        }
+        for (String argument : runtime.getInputArguments()) {
+            if (argument.startsWith("-XX:SharedArchiveFile=")) {
+                Path archive = Path.of(argument.substring("-XX:SharedArchiveFile=".length()));
+                // A dynamic archive is written at JVM exit, so it only exists here if an earlier run created it.
+                // Whether the JVM accepted it for this class path only shows with -Xlog:cds
+                return Files.exists(archive) ? "application archive " + archive + " requested"
+                        : "JDK archive, " + archive + " is created at exit";
+            }
+        }
+        return "JDK archive";
+    }
+}
@@ -0,0 +1,56 @@
+package com.bookstore.metrics;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * HTTP call durations of the running test, recorded by {@link MetricsFilter} between {@link #begin()} and
+ * {@link #end()}. Threads started by the test (bulk calls, parallel helpers) inherit the recorder.
+ */
+public final class TestLatencies {
+
+    private static final InheritableThreadLocal<Queue<Sample>> CURRENT = new InheritableThreadLocal<>();
+
+    private TestLatencies() {
+    }
+
+    public static void begin() {
+        CURRENT.set(new ConcurrentLinkedQueue<>());
+    }
+
+    public static void end() {
+        CURRENT.remove();
+    }
+
+    static void record(String endpoint, long nanos) {
+        Queue<Sample> samples = CURRENT.get();
+        if (samples != null) {
+            samples.add(new Sample(endpoint, nanos));
+        }
+    }
+
+    /**
+     * Calls recorded so far for the current test, or an empty list when not recording.
+     */
+    public static List<Sample> samples() {
+        Queue<Sample> samples = CURRENT.get();
+        return samples == null ? List.of() : new ArrayList<>(samples);
+    }
+
+    /**
+     * Nearest-rank percentile of the sample durations, in nanoseconds; {@code 0} for no samples.
+     */
+    public static long percentileNanos(List<Sample> samples, double percentile) {
+        if (samples.isEmpty()) {
+            return 0;
+        }
+        long[] sorted = samples.stream().mapToLong(Sample::nanos).sorted().toArray();
+        int rank = (int) Math.ceil(percentile / 100 * sorted.length);
+        return sorted[Math.min(sorted.length, Math.max(1, rank)) - 1];
+    }
+
+    public record Sample(String endpoint, long nanos) {
+    }
+}
@@ -47,6 +47,13 @@ public class Author {
         this.lastName = lastName;
     }
 
+    /**
+     * Immutable, pre-serialized snapshot of this author's current values.
+     */
+    public ImmutableAuthor toImmutable() {
+        return new ImmutableAuthor(id, idBook, firstName, lastName);
+    }
+
     public static Builder builder() {
         return new Builder();
     }
@@ -80,6 +87,10 @@ public class Author {
         public Author build() {
             return new Author(id, idBook, firstName, lastName);
         }
+
+        public ImmutableAuthor buildImmutable() {
+            return new ImmutableAuthor(id, idBook, firstName, lastName);
+        }
     }
 
     @Override
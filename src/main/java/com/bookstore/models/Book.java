@@ -67,6 +67,13 @@ public class Book {
         this.publishDate = publishDate;
     }
 
+    /**
+     * Immutable, pre-serialized snapshot of this book's current values.
+     */
+    public ImmutableBook toImmutable() {
+        return new ImmutableBook(id, title, description, pageCount, excerpt, publishDate);
+    }
+
     public static Builder builder() {
         return new Builder();
     }
@@ -112,6 +119,10 @@ public class Book {
         public Book build() {
             return new Book(id, title, description, pageCount, excerpt, publishDate);
         }
+
+        public ImmutableBook buildImmutable() {
+            return new ImmutableBook(id, title, description, pageCount, excerpt, publishDate);
+        }
     }
 
     @Override
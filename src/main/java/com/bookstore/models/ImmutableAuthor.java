@@ -0,0 +1,90 @@
+package com.bookstore.models;
+
+import com.google.gson.Gson;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Objects;
+
+/**
+ * Immutable {@link Author} whose JSON encoding is produced once, on construction, and reused for every send.
+ * <p>
+ * Meant for payloads sent many times (load runs, retries): the client overloads taking an
+ * {@code ImmutableAuthor} send {@link #jsonBytes()} as a raw body instead of serializing the bean per call.
+ * Build one with {@link Author.Builder#buildImmutable()} or {@link Author#toImmutable()}.
+ */
+public final class ImmutableAuthor {
+
+    private static final Gson GSON = new Gson();
+
+    private final int id;
+    private final int idBook;
+    private final String firstName;
+    private final String lastName;
+    private final transient byte[] json;
+
+    ImmutableAuthor(int id, int idBook, String firstName, String lastName) {
+        this.id = id;
+        this.idBook = idBook;
+        this.firstName = firstName;
+        this.lastName = lastName;
+        this.json = GSON.toJson(toAuthor()).getBytes(StandardCharsets.UTF_8);
+    }
+
+    public int getId() {
+        return id;
+    }
+
+    public int getIdBook() {
+        return idBook;
+    }
+
+    public String getFirstName() {
+        return firstName;
+    }
+
+    public String getLastName() {
+        return lastName;
+    }
+
+    /**
+     * UTF-8 JSON of this author, exactly as {@code .body(author)} would send it. The array is shared: do not
+     * modify it.
+     */
+    public byte[] jsonBytes() {
+        return json;
+    }
+
+    /**
+     * Mutable copy, e.g. to compare with a deserialized response.
+     */
+    public Author toAuthor() {
+        return new Author(id, idBook, firstName, lastName);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof ImmutableAuthor other)) {
+            return false;
+        }
+        return id == other.id && idBook == other.idBook && Objects.equals(firstName, other.firstName)
+                && Objects.equals(lastName, other.lastName);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(id, idBook, firstName, lastName);
+    }
+
+    @Override
+    public String toString() {
+        return "ImmutableAuthor{" +
+                "id=" + id +
+                ", idBook=" + idBook +
+                ", firstName='" + firstName + '\'' +
+                ", lastName='" + lastName + '\'' +
+                '}';
+    }
+}
@@ -0,0 +1,104 @@
+package com.bookstore.models;
+
+import com.google.gson.Gson;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Objects;
+
+/**
+ * Immutable {@link Book} whose JSON encoding is produced once, on construction, and reused for every send.
+ * <p>
+ * Meant for payloads sent many times (load runs, retries): the client overloads taking an
+ * {@code ImmutableBook} send {@link #jsonBytes()} as a raw body instead of serializing the bean per call.
+ * Build one with {@link Book.Builder#buildImmutable()} or {@link Book#toImmutable()}.
+ */
+public final class ImmutableBook {
+
+    private static final Gson GSON = new Gson();
+
+    private final int id;
+    private final String title;
+    private final String description;
+    private final int pageCount;
+    private final String excerpt;
+    private final String publishDate;
+    private final transient byte[] json;
+
+    ImmutableBook(int id, String title, String description, int pageCount, String excerpt, String publishDate) {
+        this.id = id;
+        this.title = title;
+        this.description = description;
+        this.pageCount = pageCount;
+        this.excerpt = excerpt;
+        this.publishDate = publishDate;
+        this.json = GSON.toJson(toBook()).getBytes(StandardCharsets.UTF_8);
+    }
+
+    public int getId() {
+        return id;
+    }
+
+    public String getTitle() {
+        return title;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+
+    public int getPageCount() {
+        return pageCount;
+    }
+
+    public String getExcerpt() {
+        return excerpt;
+    }
+
+    public String getPublishDate() {
+        return publishDate;
+    }
+
+    /**
+     * UTF-8 JSON of this book, exactly as {@code .body(book)} would send it. The array is shared: do not modify it.
+     */
+    public byte[] jsonBytes() {
+        return json;
+    }
+
+    /**
+     * Mutable copy, e.g. to compare with a deserialized response.
+     */
+    public Book toBook() {
+        return new Book(id, title, description, pageCount, excerpt, publishDate);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof ImmutableBook other)) {
+            return false;
+        }
+        return id == other.id && pageCount == other.pageCount && Objects.equals(title, other.title)
+                && Objects.equals(description, other.description) && Objects.equals(excerpt, other.excerpt)
+                && Objects.equals(publishDate, other.publishDate);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(id, title, description, pageCount, excerpt, publishDate);
+    }
+
+    @Override
+    public String toString() {
+        return "ImmutableBook{" +
+                "id=" + id +
+                ", title='" + title + '\'' +
+                ", description='" + description + '\'' +
+                ", pageCount=" + pageCount +
+                ", excerpt='" + excerpt + '\'' +
+                ", publishDate='" + publishDate + '\'' +
+                '}';
+    }
+}
@@ -0,0 +1,57 @@
+package com.bookstore.scenario;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Sequence of dependent steps on one entity, e.g. create, read, update, delete of one book. Each step runs
+ * after the previous one; {@link #after(Chain)} additionally makes the next step wait for the latest step of
+ * another chain, e.g. an author chain waiting for the book it references to be created.
+ */
+public final class Chain {
+
+    private final ScenarioGraph graph;
+    private final String name;
+    private final ChainContext context;
+    private final List<ScenarioGraph.Node> pending = new ArrayList<>();
+    private ScenarioGraph.Node last;
+
+    Chain(ScenarioGraph graph, String name) {
+        this.graph = graph;
+        this.name = name;
+        this.context = new ChainContext(name);
+    }
+
+    public String name() {
+        return name;
+    }
+
+    public ChainContext context() {
+        return context;
+    }
+
+    /**
+     * Appends a step that runs after the previous step of this chain and after the steps named by
+     * {@link #after(Chain)} since then.
+     */
+    public Chain step(String step, ScenarioStep action) {
+        List<ScenarioGraph.Node> predecessors = new ArrayList<>(pending);
+        if (last != null) {
+            predecessors.add(last);
+        }
+        last = graph.add(this, step, predecessors, action);
+        pending.clear();
+        return this;
+    }
+
+    /**
+     * Makes the next step of this chain wait for the step {@code other} has declared last.
+     */
+    public Chain after(Chain other) {
+        if (other.last == null) {
+            throw new IllegalStateException("Chain '" + other.name + "' has no steps to wait for");
+        }
+        pending.add(other.last);
+        return this;
+    }
+}
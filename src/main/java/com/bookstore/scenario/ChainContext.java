@@ -0,0 +1,35 @@
+package com.bookstore.scenario;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Values one {@link Chain} passes from step to step, typically the id of the entity its create step made.
+ * Steps of other chains may read them too, once they have been declared to run after the step that stores
+ * them; the graph's scheduling makes the stored value visible to them.
+ */
+public final class ChainContext {
+
+    private final String chain;
+    private final Map<String, Object> values = new ConcurrentHashMap<>();
+
+    ChainContext(String chain) {
+        this.chain = chain;
+    }
+
+    public void put(String key, Object value) {
+        values.put(key, value);
+    }
+
+    public <T> T get(String key, Class<T> type) {
+        Object value = values.get(key);
+        if (value == null) {
+            throw new IllegalStateException("Chain '" + chain + "' has no '" + key + "' yet");
+        }
+        return type.cast(value);
+    }
+
+    public int getInt(String key) {
+        return get(key, Integer.class);
+    }
+}
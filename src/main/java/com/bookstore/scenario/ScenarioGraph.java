@@ -0,0 +1,143 @@
+package com.bookstore.scenario;
+
+import com.bookstore.config.Config;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+/**
+ * Dependency graph of CRUD {@link Chain chains}, run with as much parallelism as the dependencies allow.
+ * <p>
+ * A step is started as soon as every step it depends on has finished, so independent chains run side by side
+ * instead of one after the other, and a slow chain only holds up the chains declared to wait for it. Steps are
+ * only ever declared after the steps they depend on, so the graph cannot contain a cycle. When a step fails,
+ * the steps that depend on it, directly or not, are skipped; all other chains still run to the end.
+ * <p>
+ * Step threads are started by the running test, so the requests of every chain show up under that test in
+ * Allure and among its captured exchanges when it fails.
+ */
+public final class ScenarioGraph {
+
+    private static final ThreadFactory THREADS = Thread.ofPlatform().daemon().name("scenario-", 0).factory();
+
+    private final List<Node> nodes = new ArrayList<>();
+    private final Set<String> chainNames = new HashSet<>();
+
+    /**
+     * Starts a new chain; its steps are added with {@link Chain#step(String, ScenarioStep)}.
+     */
+    public Chain chain(String name) {
+        if (!chainNames.add(name)) {
+            throw new IllegalArgumentException("Duplicate chain '" + name + "'");
+        }
+        return new Chain(this, name);
+    }
+
+    Node add(Chain chain, String step, List<Node> predecessors, ScenarioStep action) {
+        Node node = new Node(nodes.size(), chain, step, List.copyOf(predecessors), action);
+        for (Node predecessor : node.predecessors) {
+            predecessor.successors.add(node);
+        }
+        nodes.add(node);
+        return node;
+    }
+
+    /**
+     * Runs the graph with at most {@link Config#SCENARIO_CONCURRENCY} steps at a time.
+     */
+    public ScenarioReport run() {
+        return run(Config.SCENARIO_CONCURRENCY);
+    }
+
+    /**
+     * Runs every step once, each after the steps it depends on, with at most {@code concurrency} at a time,
+     * and waits for all of them. Outcomes are reported in declaration order.
+     */
+    public ScenarioReport run(int concurrency) {
+        int size = nodes.size();
+        StepOutcome[] outcomes = new StepOutcome[size];
+        AtomicIntegerArray waitingFor = new AtomicIntegerArray(size);
+        for (Node node : nodes) {
+            waitingFor.set(node.index, node.predecessors.size());
+        }
+        CountDownLatch finished = new CountDownLatch(size);
+
+        long start = System.nanoTime();
+        try (ExecutorService executor = Executors.newFixedThreadPool(Math.max(1, concurrency), THREADS)) {
+            Runner runner = new Runner(executor, outcomes, waitingFor, finished);
+            nodes.stream().filter(node -> node.predecessors.isEmpty()).forEach(runner::submit);
+            // Steps are submitted by the steps they depend on, so wait for all of them before closing the pool
+            finished.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while running the scenario graph", e);
+        }
+        return new ScenarioReport(List.of(outcomes), System.nanoTime() - start);
+    }
+
+    private record Runner(ExecutorService executor, StepOutcome[] outcomes, AtomicIntegerArray waitingFor,
+                          CountDownLatch finished) {
+
+        void submit(Node node) {
+            executor.execute(() -> {
+                try {
+                    outcomes[node.index] = runnable(node) ? execute(node) : skipped(node);
+                    for (Node successor : node.successors) {
+                        if (waitingFor.decrementAndGet(successor.index) == 0) {
+                            submit(successor);
+                        }
+                    }
+                } finally {
+                    finished.countDown();
+                }
+            });
+        }
+
+        private boolean runnable(Node node) {
+            return node.predecessors.stream()
+                    .allMatch(predecessor -> outcomes[predecessor.index].status() == StepOutcome.Status.PASSED);
+        }
+
+        private static StepOutcome execute(Node node) {
+            long start = System.nanoTime();
+            try {
+                node.action.run(node.chain.context());
+                return new StepOutcome(node.chain.name(), node.step, StepOutcome.Status.PASSED,
+                        System.nanoTime() - start, null);
+            } catch (Throwable e) {
+                // Any throwable, linkage errors included: the steps waiting for this one must still be released
+                return new StepOutcome(node.chain.name(), node.step, StepOutcome.Status.FAILED,
+                        System.nanoTime() - start, e);
+            }
+        }
+
+        private static StepOutcome skipped(Node node) {
+            return new StepOutcome(node.chain.name(), node.step, StepOutcome.Status.SKIPPED, 0, null);
+        }
+    }
+
+    static final class Node {
+
+        final int index;
+        final Chain chain;
+        final String step;
+        final List<Node> predecessors;
+        final List<Node> successors = new ArrayList<>();
+        final ScenarioStep action;
+
+        Node(int index, Chain chain, String step, List<Node> predecessors, ScenarioStep action) {
+            this.index = index;
+            this.chain = chain;
+            this.step = step;
+            this.predecessors = predecessors;
+            this.action = action;
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package com.bookstore.scenario;
+
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Outcome of every step of a {@link ScenarioGraph} run, in declaration order, and the wall-clock time of the
+ * run. Comparing it with the summed step times shows how much the independent chains overlapped.
+ */
+public record ScenarioReport(List<StepOutcome> steps, long elapsedNanos) {
+
+    public List<StepOutcome> failures() {
+        return steps.stream().filter(step -> step.status() == StepOutcome.Status.FAILED).toList();
+    }
+
+    public long skipped() {
+        return steps.stream().filter(step -> step.status() == StepOutcome.Status.SKIPPED).count();
+    }
+
+    public long totalStepNanos() {
+        return steps.stream().mapToLong(StepOutcome::nanos).sum();
+    }
+
+    /**
+     * Throws an {@link AssertionError} naming every failed step, caused by the first failure, when any step
+     * did not pass.
+     */
+    public void assertPassed() {
+        List<StepOutcome> failures = failures();
+        if (failures.isEmpty()) {
+            return;
+        }
+        StringBuilder message = new StringBuilder(String.format(Locale.ROOT,
+                "%d of %d scenario steps failed, %d skipped:", failures.size(), steps.size(), skipped()));
+        for (StepOutcome failure : failures) {
+            message.append("\n  ").append(failure.name()).append(": ").append(failure.failure());
+        }
+        throw new AssertionError(message.toString(), failures.get(0).failure());
+    }
+
+    /**
+     * Plain-text table, one line per step, durations in milliseconds.
+     */
+    public String render() {
+        StringBuilder out = new StringBuilder();
+        out.append(String.format(Locale.ROOT, "%d steps in %.1f ms (%.1f ms of step time)%n",
+                steps.size(), millis(elapsedNanos), millis(totalStepNanos())));
+        out.append(String.format(Locale.ROOT, "%-40s %-8s %9s%n", "step", "status", "ms"));
+        for (StepOutcome step : steps) {
+            out.append(String.format(Locale.ROOT, "%-40.40s %-8s %9.1f%n",
+                    step.name(), step.status(), millis(step.nanos())));
+        }
+        return out.toString();
+    }
+
+    private static double millis(long nanos) {
+        return nanos / 1_000_000d;
+    }
+}
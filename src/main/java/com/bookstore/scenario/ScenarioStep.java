@@ -0,0 +1,12 @@
+package com.bookstore.scenario;
+
+/**
+ * Action of one step of a {@link Chain}, e.g. the POST that creates the chain's book. It reads what earlier
+ * steps stored in the chain's {@link ChainContext} and stores what later steps need; a thrown exception or
+ * failed assertion fails the step and skips everything that depends on it.
+ */
+@FunctionalInterface
+public interface ScenarioStep {
+
+    void run(ChainContext context) throws Exception;
+}
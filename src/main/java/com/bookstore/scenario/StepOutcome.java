@@ -0,0 +1,14 @@
+package com.bookstore.scenario;
+
+/**
+ * What became of one step of a {@link ScenarioGraph} run. {@code failure} is set for a failed step only; a
+ * skipped step did not run because a step it depends on did not pass.
+ */
+public record StepOutcome(String chain, String step, Status status, long nanos, Throwable failure) {
+
+    public enum Status { PASSED, FAILED, SKIPPED }
+
+    public String name() {
+        return chain + " / " + step;
+    }
+}
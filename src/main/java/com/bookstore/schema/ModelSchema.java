@@ -0,0 +1,295 @@
+package com.bookstore.schema;
+
+import com.google.gson.annotations.SerializedName;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * JSON contract of a model class such as {@link com.bookstore.models.Book}, derived from its fields the way
+ * Gson maps them: primitive fields are required and non-null, reference fields may be missing or {@code null},
+ * integers must fit the field's type, and properties the model does not declare are rejected.
+ * <p>
+ * A schema is compiled once per class and JVM ({@link #of(Class)}). Validation is a single streaming pass over
+ * the body with a {@link JsonReader}: no tree is built and the body is not bound to the model. Elements of a
+ * streamed array are checked on the caller's reader ({@link #validateObject(JsonReader, JsonWriter)}).
+ */
+public final class ModelSchema {
+
+    /** Violations reported per body; validation stops at this many. */
+    static final int MAX_VIOLATIONS = 20;
+
+    private static final ClassValue<ModelSchema> COMPILED = new ClassValue<>() {
+        @Override
+        protected ModelSchema computeValue(Class<?> model) {
+            return compile(model);
+        }
+    };
+
+    private enum Kind { INT, LONG, NUMBER, BOOLEAN, STRING }
+
+    private record Property(String name, int index, Kind kind, boolean nullable) {
+    }
+
+    private final String model;
+    private final Map<String, Property> properties;
+    // Same properties in declaration order, for stable messages
+    private final List<Property> declared;
+    private final long required;
+
+    private ModelSchema(String model, List<Property> declared, long required) {
+        this.model = model;
+        this.declared = declared;
+        this.required = required;
+        Map<String, Property> byName = new HashMap<>();
+        declared.forEach(property -> byName.put(property.name(), property));
+        this.properties = Map.copyOf(byName);
+    }
+
+    public static ModelSchema of(Class<?> model) {
+        return COMPILED.get(model);
+    }
+
+    /**
+     * Violations of a body holding one model object; empty when it conforms.
+     */
+    public List<String> validateObject(byte[] json) {
+        return validate(json, false);
+    }
+
+    /**
+     * Violations of the model object {@code reader} is positioned at, e.g. one element of a streamed array; empty
+     * when it conforms. The object is consumed and its tokens are echoed to {@code copy}, which holds the object
+     * once it conforms. Paths are those of {@code reader}, e.g. {@code $[3].pageCount}.
+     */
+    public List<String> validateObject(JsonReader reader, JsonWriter copy) throws IOException {
+        List<String> violations = new ArrayList<>();
+        try {
+            object(reader, copy, violations);
+        } catch (IllegalStateException | NumberFormatException e) {
+            violations.add("malformed JSON: " + e.getMessage());
+        }
+        return violations;
+    }
+
+    /**
+     * Violations of a body holding an array of model objects; empty when it conforms.
+     */
+    public List<String> validateArray(byte[] json) {
+        return validate(json, true);
+    }
+
+    private List<String> validate(byte[] json, boolean array) {
+        List<String> violations = new ArrayList<>();
+        try (JsonReader reader = new JsonReader(
+                new InputStreamReader(new ByteArrayInputStream(json), StandardCharsets.UTF_8))) {
+            if (array) {
+                if (expect(reader, JsonToken.BEGIN_ARRAY, "array of " + model, violations)) {
+                    reader.beginArray();
+                    while (reader.hasNext() && violations.size() < MAX_VIOLATIONS) {
+                        object(reader, null, violations);
+                    }
+                }
+            } else {
+                object(reader, null, violations);
+            }
+        } catch (IOException | IllegalStateException | NumberFormatException e) {
+            violations.add("malformed JSON: " + e.getMessage());
+        }
+        return violations;
+    }
+
+    // copy, when not null, receives every token read; a skipped value is echoed as null to keep it well-formed
+    private void object(JsonReader reader, JsonWriter copy, List<String> violations) throws IOException {
+        if (!expect(reader, JsonToken.BEGIN_OBJECT, model, violations)) {
+            return;
+        }
+        String objectPath = reader.getPath();
+        long seen = 0;
+        reader.beginObject();
+        if (copy != null) {
+            copy.beginObject();
+        }
+        while (reader.hasNext()) {
+            if (violations.size() >= MAX_VIOLATIONS) {
+                return;
+            }
+            String name = reader.nextName();
+            Property property = properties.get(name);
+            if (property == null) {
+                violations.add(reader.getPath() + ": " + model + " has no property '" + name + "'");
+                reader.skipValue();
+                continue;
+            }
+            if (copy != null) {
+                copy.name(name);
+            }
+            long bit = 1L << property.index();
+            if ((seen & bit) != 0) {
+                violations.add(reader.getPath() + ": duplicate property");
+            }
+            seen |= bit;
+            value(reader, property, copy, violations);
+        }
+        reader.endObject();
+        if (copy != null) {
+            copy.endObject();
+        }
+
+        long missing = required & ~seen;
+        for (Property property : declared) {
+            if ((missing & (1L << property.index())) != 0) {
+                violations.add(objectPath + ": missing required property '" + property.name() + "'");
+            }
+        }
+    }
+
+    private static void value(JsonReader reader, Property property, JsonWriter copy, List<String> violations)
+            throws IOException {
+        JsonToken token = reader.peek();
+        if (token == JsonToken.NULL) {
+            if (!property.nullable()) {
+                violations.add(reader.getPath() + ": must not be null");
+            }
+            reader.nextNull();
+            if (copy != null) {
+                copy.nullValue();
+            }
+            return;
+        }
+        String path = reader.getPath();
+        switch (property.kind()) {
+            case STRING -> {
+                if (token == JsonToken.STRING) {
+                    if (copy != null) {
+                        copy.value(reader.nextString());
+                    } else {
+                        // Skipping does not build the string
+                        reader.skipValue();
+                    }
+                    return;
+                }
+            }
+            case BOOLEAN -> {
+                if (token == JsonToken.BOOLEAN) {
+                    boolean value = reader.nextBoolean();
+                    if (copy != null) {
+                        copy.value(value);
+                    }
+                    return;
+                }
+            }
+            case INT, LONG, NUMBER -> {
+                if (token == JsonToken.NUMBER) {
+                    String number = reader.nextString();
+                    if (!fits(number, property.kind())) {
+                        violations.add(path + ": " + number + " is not a valid " + describe(property.kind()));
+                    }
+                    if (copy != null) {
+                        copy.jsonValue(number);
+                    }
+                    return;
+                }
+            }
+        }
+        violations.add(path + ": expected " + describe(property.kind()) + ", got " + token);
+        reader.skipValue();
+        if (copy != null) {
+            copy.nullValue();
+        }
+    }
+
+    private static boolean expect(JsonReader reader, JsonToken expected, String what, List<String> violations)
+            throws IOException {
+        JsonToken token = reader.peek();
+        if (token == expected) {
+            return true;
+        }
+        violations.add(reader.getPath() + ": expected " + what + ", got " + token);
+        reader.skipValue();
+        return false;
+    }
+
+    private static boolean fits(String number, Kind kind) {
+        try {
+            switch (kind) {
+                case INT -> Integer.parseInt(number);
+                case LONG -> Long.parseLong(number);
+                default -> {
+                    return Double.isFinite(Double.parseDouble(number));
+                }
+            }
+            return true;
+        } catch (NumberFormatException e) {
+            return false;
+        }
+    }
+
+    private static String describe(Kind kind) {
+        return switch (kind) {
+            case INT -> "32-bit integer";
+            case LONG -> "64-bit integer";
+            case NUMBER -> "number";
+            case BOOLEAN -> "boolean";
+            case STRING -> "string";
+        };
+    }
+
+    private static ModelSchema compile(Class<?> model) {
+        List<Property> properties = new ArrayList<>();
+        long required = 0;
+        for (Class<?> type = model; type != null && type != Object.class; type = type.getSuperclass()) {
+            for (Field field : type.getDeclaredFields()) {
+                int modifiers = field.getModifiers();
+                if (Modifier.isStatic(modifiers) || Modifier.isTransient(modifiers) || field.isSynthetic()) {
+                    continue;
+                }
+                if (properties.size() == Long.SIZE) {
+                    throw new IllegalArgumentException(model.getName() + " has more than 64 properties");
+                }
+                SerializedName serializedName = field.getAnnotation(SerializedName.class);
+                String name = serializedName != null ? serializedName.value() : field.getName();
+                Class<?> fieldType = field.getType();
+                Property property =
+                        new Property(name, properties.size(), kindOf(model, field), !fieldType.isPrimitive());
+                properties.add(property);
+                if (fieldType.isPrimitive()) {
+                    required |= 1L << property.index();
+                }
+            }
+        }
+        return new ModelSchema(model.getSimpleName(), List.copyOf(properties), required);
+    }
+
+    private static Kind kindOf(Class<?> model, Field field) {
+        Class<?> type = field.getType();
+        if (type == int.class || type == Integer.class) {
+            return Kind.INT;
+        }
+        if (type == long.class || type == Long.class) {
+            return Kind.LONG;
+        }
+        if (type == double.class || type == Double.class || type == float.class || type == Float.class) {
+            return Kind.NUMBER;
+        }
+        if (type == boolean.class || type == Boolean.class) {
+            return Kind.BOOLEAN;
+        }
+        if (type == String.class) {
+            return Kind.STRING;
+        }
+        throw new IllegalArgumentException("Cannot derive a schema for " + model.getName() + "." + field.getName()
+                + " of type " + type.getName());
+    }
+}
@@ -0,0 +1,92 @@
+package com.bookstore.schema;
+
+import com.bookstore.config.Config;
+import com.bookstore.models.Author;
+import com.bookstore.models.Book;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
+import io.restassured.response.Response;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * Which {@link ModelSchema} a Books/Authors response must match: a collection GET answers with an array of the
+ * model, a GET, POST or PUT of one resource (or of the collection, for POST) with a single object. Only
+ * successful responses with a body are checked; error bodies are RFC 7807 problem details, not models.
+ */
+public final class ResponseContracts {
+
+    private static final ModelSchema BOOK = ModelSchema.of(Book.class);
+    private static final ModelSchema AUTHOR = ModelSchema.of(Author.class);
+
+    private ResponseContracts() {
+    }
+
+    /**
+     * Throws {@link SchemaViolationError} when {@code response}, the answer to {@code method path}, breaks its
+     * contract. {@code path} is the request path, without base URL, with or without a query.
+     */
+    public static void check(String method, String path, Response response) {
+        int status = response.getStatusCode();
+        if (status < 200 || status >= 300 || "DELETE".equals(method)) {
+            return;
+        }
+        int query = path.indexOf('?');
+        String resource = query < 0 ? path : path.substring(0, query);
+        ModelSchema schema;
+        String rest;
+        if (resource.startsWith(Config.BOOKS_ENDPOINT)) {
+            schema = BOOK;
+            rest = resource.substring(Config.BOOKS_ENDPOINT.length());
+        } else if (resource.startsWith(Config.AUTHORS_ENDPOINT)) {
+            schema = AUTHOR;
+            rest = resource.substring(Config.AUTHORS_ENDPOINT.length());
+        } else {
+            return;
+        }
+        boolean collection = rest.isEmpty() || rest.equals("/");
+        if (!collection && (rest.charAt(0) != '/' || rest.indexOf('/', 1) >= 0)) {
+            // Not /{id}: some other resource below the endpoint
+            return;
+        }
+
+        byte[] body = response.asByteArray();
+        if (body.length == 0) {
+            return;
+        }
+        List<String> violations = collection && "GET".equals(method)
+                ? schema.validateArray(body)
+                : schema.validateObject(body);
+        if (!violations.isEmpty()) {
+            throw new SchemaViolationError(method + " " + path, violations);
+        }
+    }
+
+    /**
+     * Schema each element of {@code response}, a streamed collection of {@code type}, must match; {@code null}
+     * when its elements are not checked (validation off, an unsuccessful response, or not a Books/Authors model).
+     */
+    public static ModelSchema elementSchema(Class<?> type, Response response) {
+        int status = response.getStatusCode();
+        if (!Config.SCHEMA_VALIDATION || status < 200 || status >= 300) {
+            return null;
+        }
+        if (type == Book.class) {
+            return BOOK;
+        }
+        return type == Author.class ? AUTHOR : null;
+    }
+
+    /**
+     * Reads the object {@code reader} is positioned at, one element of a streamed collection, into {@code copy}
+     * and throws {@link SchemaViolationError} when it breaks {@code schema}; paths are those of the whole array.
+     */
+    public static void checkElement(ModelSchema schema, String collection, JsonReader reader, JsonWriter copy)
+            throws IOException {
+        List<String> violations = schema.validateObject(reader, copy);
+        if (!violations.isEmpty()) {
+            throw new SchemaViolationError(collection, violations);
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package com.bookstore.schema;
+
+import io.restassured.filter.Filter;
+import io.restassured.filter.FilterContext;
+import io.restassured.response.Response;
+import io.restassured.specification.FilterableRequestSpecification;
+import io.restassured.specification.FilterableResponseSpecification;
+
+/**
+ * Checks every response against its {@link ResponseContracts contract}. Registered outermost, so the exchange
+ * has already been captured for the report when a violation fails the call, and replayed or cached responses
+ * are checked as well.
+ */
+public final class SchemaValidationFilter implements Filter {
+
+    @Override
+    public Response filter(FilterableRequestSpecification requestSpec,
+                           FilterableResponseSpecification responseSpec,
+                           FilterContext ctx) {
+        Response response = ctx.next(requestSpec, responseSpec);
+        ResponseContracts.check(requestSpec.getMethod(), requestSpec.getBasePath() + requestSpec.getUserDefinedPath(),
+                response);
+        return response;
+    }
+}
@@ -0,0 +1,16 @@
+package com.bookstore.schema;
+
+import java.util.List;
+
+/**
+ * A response broke the contract of its endpoint. An {@link AssertionError}, so the test is reported as failed
+ * rather than broken.
+ */
+public class SchemaViolationError extends AssertionError {
+
+    private static final long serialVersionUID = 1L;
+
+    public SchemaViolationError(String exchange, List<String> violations) {
+        super("Response of " + exchange + " does not match its schema:\n  " + String.join("\n  ", violations));
+    }
+}
@@ -0,0 +1,198 @@
+package com.bookstore.stub;
+
+import com.bookstore.config.Config;
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParseException;
+import com.google.gson.JsonParser;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpHandler;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Embedded, in-process stand-in for the FakeRestAPI {@code /api/v1/Books} and {@code /api/v1/Authors} endpoints.
+ * <p>
+ * Mirrors the remote service: reads are served from a fixed seed data set (200 books, 400 authors), while
+ * POST and PUT validate and echo the payload and DELETE always answers 200, without changing the data.
+ * Unknown ids answer 404 and malformed ids or payloads answer 400 with the same problem-details bodies as
+ * the real API. Seed responses are serialized once at startup and every request is handled on its own
+ * virtual thread.
+ */
+public final class BookstoreStub implements AutoCloseable {
+
+    static final String JSON = "application/json; charset=utf-8; v=1.0";
+    static final String PROBLEM_JSON = "application/problem+json; charset=utf-8";
+
+    static final Gson GSON = new GsonBuilder().serializeNulls().disableHtmlEscaping().create();
+
+    static {
+        // Headers and body are written separately; without TCP_NODELAY every response waits for a delayed ACK
+        if (System.getProperty("sun.net.httpserver.nodelay") == null) {
+            System.setProperty("sun.net.httpserver.nodelay", "true");
+        }
+    }
+
+    private final HttpServer server;
+    private final ExecutorService executor;
+
+    private BookstoreStub(HttpServer server, ExecutorService executor) {
+        this.server = server;
+        this.executor = executor;
+    }
+
+    /**
+     * Starts the stub on the loopback interface. Port {@code 0} picks a free port.
+     */
+    public static BookstoreStub start(int port) throws IOException {
+        HttpServer server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), port), 1024);
+        ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+        server.setExecutor(executor);
+        server.createContext(Config.BOOKS_ENDPOINT, new ResourceHandler(Config.BOOKS_ENDPOINT, StubData.books(),
+                StubData::normalizeBook));
+        server.createContext(Config.AUTHORS_ENDPOINT, new ResourceHandler(Config.AUTHORS_ENDPOINT, StubData.authors(),
+                StubData::normalizeAuthor));
+        server.start();
+        return new BookstoreStub(server, executor);
+    }
+
+    public int port() {
+        return server.getAddress().getPort();
+    }
+
+    public String baseUrl() {
+        return "http://" + server.getAddress().getHostString() + ":" + port();
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+
+    /**
+     * Validates a request payload and returns it in the shape the API echoes back.
+     */
+    @FunctionalInterface
+    interface Normalizer {
+        JsonObject normalize(JsonObject payload) throws InvalidPayloadException;
+    }
+
+    static final class InvalidPayloadException extends Exception {
+        private static final long serialVersionUID = 1L;
+
+        final String field;
+
+        InvalidPayloadException(String field, String message) {
+            super(message);
+            this.field = field;
+        }
+    }
+
+    private static final class ResourceHandler implements HttpHandler {
+        private final String basePath;
+        private final byte[] all;
+        private final Map<Integer, byte[]> byId;
+        private final Normalizer normalizer;
+
+        ResourceHandler(String basePath, StubData.Resource resource, Normalizer normalizer) {
+            this.basePath = basePath;
+            this.all = resource.all();
+            this.byId = resource.byId();
+            this.normalizer = normalizer;
+        }
+
+        @Override
+        public void handle(HttpExchange exchange) throws IOException {
+            try (exchange) {
+                String path = exchange.getRequestURI().getPath();
+                String tail = path.length() > basePath.length() ? path.substring(basePath.length()) : "";
+                String method = exchange.getRequestMethod();
+
+                if (tail.isEmpty() || tail.equals("/")) {
+                    switch (method) {
+                        case "GET" -> send(exchange, 200, JSON, all);
+                        case "POST" -> echo(exchange);
+                        default -> send(exchange, 405, null, null);
+                    }
+                    return;
+                }
+                if (tail.charAt(0) != '/' || tail.indexOf('/', 1) > 0) {
+                    send(exchange, 404, null, null);
+                    return;
+                }
+
+                Integer id = parseId(tail.substring(1));
+                if (id == null) {
+                    send(exchange, 400, PROBLEM_JSON, Problems.invalidId(tail.substring(1)));
+                    return;
+                }
+                switch (method) {
+                    case "GET" -> {
+                        byte[] body = byId.get(id);
+                        if (body == null) {
+                            send(exchange, 404, PROBLEM_JSON, Problems.notFound());
+                        } else {
+                            send(exchange, 200, JSON, body);
+                        }
+                    }
+                    case "PUT" -> echo(exchange);
+                    case "DELETE" -> send(exchange, 200, null, null);
+                    default -> send(exchange, 405, null, null);
+                }
+            }
+        }
+
+        private void echo(HttpExchange exchange) throws IOException {
+            JsonElement payload;
+            try (InputStream in = exchange.getRequestBody()) {
+                payload = JsonParser.parseReader(new InputStreamReader(in, StandardCharsets.UTF_8));
+            } catch (JsonParseException e) {
+                send(exchange, 400, PROBLEM_JSON, Problems.validation("$", "The JSON value could not be parsed."));
+                return;
+            }
+            if (!payload.isJsonObject()) {
+                send(exchange, 400, PROBLEM_JSON, Problems.validation("$", "The JSON value must be an object."));
+                return;
+            }
+            try {
+                JsonObject normalized = normalizer.normalize(payload.getAsJsonObject());
+                send(exchange, 200, JSON, GSON.toJson(normalized).getBytes(StandardCharsets.UTF_8));
+            } catch (InvalidPayloadException e) {
+                send(exchange, 400, PROBLEM_JSON, Problems.validation("$." + e.field, e.getMessage()));
+            }
+        }
+
+        private static Integer parseId(String raw) {
+            try {
+                return Integer.parseInt(raw);
+            } catch (NumberFormatException e) {
+                return null;
+            }
+        }
+
+        private static void send(HttpExchange exchange, int status, String contentType, byte[] body)
+                throws IOException {
+            if (contentType != null) {
+                exchange.getResponseHeaders().set("Content-Type", contentType);
+            }
+            if (body == null || body.length == 0) {
+                exchange.sendResponseHeaders(status, -1);
+                return;
+            }
+            exchange.sendResponseHeaders(status, body.length);
+            exchange.getResponseBody().write(body);
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package com.bookstore.stub;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonObject;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * RFC 7807 problem-details bodies in the format returned by the real API for 400 and 404 responses.
+ */
+final class Problems {
+
+    private Problems() {
+    }
+
+    static byte[] notFound() {
+        return toBytes(problem("https://tools.ietf.org/html/rfc7231#section-6.5.4", "Not Found", 404));
+    }
+
+    static byte[] invalidId(String rawId) {
+        return validation("id", "The value '" + rawId + "' is not valid.");
+    }
+
+    static byte[] validation(String field, String message) {
+        JsonObject problem = problem("https://tools.ietf.org/html/rfc7231#section-6.5.1",
+                "One or more validation errors occurred.", 400);
+        JsonArray messages = new JsonArray();
+        messages.add(message);
+        JsonObject errors = new JsonObject();
+        errors.add(field, messages);
+        problem.add("errors", errors);
+        return toBytes(problem);
+    }
+
+    private static JsonObject problem(String type, String title, int status) {
+        JsonObject problem = new JsonObject();
+        problem.addProperty("type", type);
+        problem.addProperty("title", title);
+        problem.addProperty("status", status);
+        problem.addProperty("traceId", traceId());
+        return problem;
+    }
+
+    private static String traceId() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        return String.format("00-%016x%016x-%016x-00", random.nextLong(), random.nextLong(), random.nextLong());
+    }
+
+    private static byte[] toBytes(JsonObject problem) {
+        return BookstoreStub.GSON.toJson(problem).getBytes(StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,166 @@
+package com.bookstore.stub;
+
+import com.bookstore.stub.BookstoreStub.InvalidPayloadException;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonNull;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonPrimitive;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Seed data and payload validation for {@link BookstoreStub}, modelled on the FakeRestAPI data set.
+ */
+final class StubData {
+
+    static final int BOOK_COUNT = 200;
+    static final int AUTHOR_COUNT = 400;
+
+    private static final String LOREM = "Lorem lorem lorem. Lorem lorem lorem. Lorem lorem lorem.\n";
+    private static final LocalDateTime SEED_DATE = LocalDateTime.of(2026, 1, 1, 0, 0);
+    private static final DateTimeFormatter DATE_TIME = DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss");
+    private static final String DEFAULT_DATE = "0001-01-01T00:00:00";
+
+    /**
+     * Pre-serialized responses of one resource: the full collection and each entity by id.
+     */
+    record Resource(byte[] all, Map<Integer, byte[]> byId) {
+    }
+
+    private StubData() {
+    }
+
+    static Resource books() {
+        JsonArray all = new JsonArray();
+        for (int id = 1; id <= BOOK_COUNT; id++) {
+            JsonObject book = new JsonObject();
+            book.addProperty("id", id);
+            book.addProperty("title", "Book " + id);
+            book.addProperty("description", LOREM);
+            book.addProperty("pageCount", id * 100);
+            book.addProperty("excerpt", LOREM.repeat(5));
+            book.addProperty("publishDate", SEED_DATE.minusDays(id).format(DATE_TIME));
+            all.add(book);
+        }
+        return resource(all);
+    }
+
+    static Resource authors() {
+        JsonArray all = new JsonArray();
+        for (int id = 1; id <= AUTHOR_COUNT; id++) {
+            JsonObject author = new JsonObject();
+            author.addProperty("id", id);
+            author.addProperty("idBook", (id - 1) / 2 + 1);
+            author.addProperty("firstName", "First Name " + id);
+            author.addProperty("lastName", "Last Name " + id);
+            all.add(author);
+        }
+        return resource(all);
+    }
+
+    static JsonObject normalizeBook(JsonObject payload) throws InvalidPayloadException {
+        JsonObject book = new JsonObject();
+        book.add("id", int32(payload, "id"));
+        book.add("title", string(payload, "title"));
+        book.add("description", string(payload, "description"));
+        book.add("pageCount", int32(payload, "pageCount"));
+        book.add("excerpt", string(payload, "excerpt"));
+        book.add("publishDate", dateTime(payload, "publishDate"));
+        return book;
+    }
+
+    static JsonObject normalizeAuthor(JsonObject payload) throws InvalidPayloadException {
+        JsonObject author = new JsonObject();
+        author.add("id", int32(payload, "id"));
+        author.add("idBook", int32(payload, "idBook"));
+        author.add("firstName", string(payload, "firstName"));
+        author.add("lastName", string(payload, "lastName"));
+        return author;
+    }
+
+    private static Resource resource(JsonArray all) {
+        Map<Integer, byte[]> byId = new HashMap<>();
+        for (JsonElement entity : all) {
+            byId.put(entity.getAsJsonObject().get("id").getAsInt(), bytes(entity));
+        }
+        return new Resource(bytes(all), Map.copyOf(byId));
+    }
+
+    private static byte[] bytes(JsonElement element) {
+        return BookstoreStub.GSON.toJson(element).getBytes(StandardCharsets.UTF_8);
+    }
+
+    // Property names are matched case-insensitively, like the ASP.NET model binder of the real API
+    private static JsonElement field(JsonObject payload, String name) {
+        for (Map.Entry<String, JsonElement> entry : payload.entrySet()) {
+            if (entry.getKey().equalsIgnoreCase(name)) {
+                return entry.getValue();
+            }
+        }
+        return null;
+    }
+
+    private static JsonElement int32(JsonObject payload, String name) throws InvalidPayloadException {
+        JsonElement value = field(payload, name);
+        if (value == null) {
+            return new JsonPrimitive(0);
+        }
+        if (value.isJsonPrimitive() && value.getAsJsonPrimitive().isNumber()) {
+            BigDecimal number = value.getAsBigDecimal();
+            if (number.stripTrailingZeros().scale() <= 0
+                    && number.compareTo(BigDecimal.valueOf(Integer.MIN_VALUE)) >= 0
+                    && number.compareTo(BigDecimal.valueOf(Integer.MAX_VALUE)) <= 0) {
+                return new JsonPrimitive(number.intValueExact());
+            }
+        }
+        throw new InvalidPayloadException(name, "The JSON value could not be converted to System.Int32.");
+    }
+
+    private static JsonElement string(JsonObject payload, String name) throws InvalidPayloadException {
+        JsonElement value = field(payload, name);
+        if (value == null || value.isJsonNull()) {
+            return JsonNull.INSTANCE;
+        }
+        if (value.isJsonPrimitive() && value.getAsJsonPrimitive().isString()) {
+            return value;
+        }
+        throw new InvalidPayloadException(name, "The JSON value could not be converted to System.String.");
+    }
+
+    private static JsonElement dateTime(JsonObject payload, String name) throws InvalidPayloadException {
+        JsonElement value = field(payload, name);
+        if (value == null) {
+            return new JsonPrimitive(DEFAULT_DATE);
+        }
+        if (value.isJsonPrimitive() && value.getAsJsonPrimitive().isString()) {
+            String text = value.getAsString();
+            try {
+                LocalDateTime.parse(text);
+                return value;
+            } catch (DateTimeParseException ignored) {
+                // try the other ISO 8601 shapes
+            }
+            try {
+                OffsetDateTime.parse(text);
+                return value;
+            } catch (DateTimeParseException ignored) {
+                // try a plain date
+            }
+            try {
+                return new JsonPrimitive(LocalDate.parse(text).atStartOfDay().format(DATE_TIME));
+            } catch (DateTimeParseException ignored) {
+                // fall through to the validation error
+            }
+        }
+        throw new InvalidPayloadException(name, "The JSON value could not be converted to System.DateTime.");
+    }
+}
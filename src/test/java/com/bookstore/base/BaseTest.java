@@ -1,19 +1,91 @@
 package com.bookstore.base;
 
+import com.bookstore.clients.ApiTransport;
+import com.bookstore.clients.AsyncAuthorsClient;
+import com.bookstore.clients.AsyncBooksClient;
+import com.bookstore.clients.AsyncTransport;
 import com.bookstore.clients.AuthorsClient;
 import com.bookstore.clients.BooksClient;
-import io.restassured.RestAssured;
-import org.testng.annotations.BeforeClass;
+import com.bookstore.config.Environment;
+import com.bookstore.fixtures.Fixtures;
+import com.bookstore.fixtures.Lease;
+import com.bookstore.models.Author;
+import com.bookstore.models.Book;
+import org.testng.ITestContext;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
 
+/**
+ * Creates fresh clients for every test method. Clients are held per thread, so test methods of the same
+ * class can safely run in parallel (e.g. in virtual-thread mode); they all share the pooled transport.
+ * In a fan-out run the clients are bound to the {@link Environment} of the running {@code <test>}.
+ * Tests that update or delete an entity lease one from the {@link Fixtures} pool of the same transport.
+ */
 public class BaseTest {
 
-    protected BooksClient booksClient;
-    protected AuthorsClient authorsClient;
+    private static final ThreadLocal<ApiTransport> TRANSPORT = new ThreadLocal<>();
+    private static final ThreadLocal<BooksClient> BOOKS_CLIENT = new ThreadLocal<>();
+    private static final ThreadLocal<AuthorsClient> AUTHORS_CLIENT = new ThreadLocal<>();
+    private static final ThreadLocal<AsyncBooksClient> ASYNC_BOOKS_CLIENT = new ThreadLocal<>();
+    private static final ThreadLocal<AsyncAuthorsClient> ASYNC_AUTHORS_CLIENT = new ThreadLocal<>();
 
-    @BeforeClass
-    public void setup() {
-        booksClient = new BooksClient();
-        authorsClient = new AuthorsClient();
-        RestAssured.enableLoggingOfRequestAndResponseIfValidationFails();
+    @BeforeMethod(alwaysRun = true)
+    public void setup(ITestContext context) {
+        String environmentName = context.getCurrentXmlTest().getParameter(Environment.PARAMETER);
+        if (environmentName == null) {
+            TRANSPORT.set(ApiTransport.shared());
+            BOOKS_CLIENT.set(new BooksClient());
+            AUTHORS_CLIENT.set(new AuthorsClient());
+            ASYNC_BOOKS_CLIENT.set(new AsyncBooksClient());
+            ASYNC_AUTHORS_CLIENT.set(new AsyncAuthorsClient());
+            return;
+        }
+        Environment environment = Environment.named(environmentName);
+        ApiTransport transport = ApiTransport.forEnvironment(environment);
+        AsyncTransport asyncTransport = AsyncTransport.forEnvironment(environment);
+        TRANSPORT.set(transport);
+        BOOKS_CLIENT.set(new BooksClient(transport));
+        AUTHORS_CLIENT.set(new AuthorsClient(transport));
+        ASYNC_BOOKS_CLIENT.set(new AsyncBooksClient(asyncTransport));
+        ASYNC_AUTHORS_CLIENT.set(new AsyncAuthorsClient(asyncTransport));
     }
-}
\ No newline at end of file
+
+    @AfterMethod(alwaysRun = true)
+    public void tearDown() {
+        TRANSPORT.remove();
+        BOOKS_CLIENT.remove();
+        AUTHORS_CLIENT.remove();
+        ASYNC_BOOKS_CLIENT.remove();
+        ASYNC_AUTHORS_CLIENT.remove();
+    }
+
+    protected BooksClient booksClient() {
+        return BOOKS_CLIENT.get();
+    }
+
+    protected AuthorsClient authorsClient() {
+        return AUTHORS_CLIENT.get();
+    }
+
+    protected AsyncBooksClient asyncBooksClient() {
+        return ASYNC_BOOKS_CLIENT.get();
+    }
+
+    protected AsyncAuthorsClient asyncAuthorsClient() {
+        return ASYNC_AUTHORS_CLIENT.get();
+    }
+
+    /**
+     * A pre-created book for this test alone; close the lease (try-with-resources) when done.
+     */
+    protected Lease<Book> leaseBook() {
+        return Fixtures.of(TRANSPORT.get()).books().lease();
+    }
+
+    /**
+     * A pre-created author for this test alone; close the lease (try-with-resources) when done.
+     */
+    protected Lease<Author> leaseAuthor() {
+        return Fixtures.of(TRANSPORT.get()).authors().lease();
+    }
+}
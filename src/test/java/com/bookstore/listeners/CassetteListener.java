@@ -0,0 +1,45 @@
+package com.bookstore.listeners;
+
+import com.bookstore.cassette.Cassette;
+import com.bookstore.config.Config;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.testng.ISuite;
+import org.testng.ISuiteListener;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Locale;
+
+/**
+ * Opens the cassette selected with {@code -Dbookstore.cassette=record|replay} before the suite, so a missing
+ * or corrupt cassette fails the run up front, and writes the recorded exchanges to {@link Config#CASSETTE_FILE}
+ * when the suite finishes.
+ */
+public class CassetteListener implements ISuiteListener {
+
+    private static final Logger log = LoggerFactory.getLogger(CassetteListener.class);
+
+    @Override
+    public void onStart(ISuite suite) {
+        Cassette cassette = Cassette.active();
+        if (cassette != null) {
+            log.info("HTTP cassette {} in {} mode ({} exchanges)", cassette.file().toAbsolutePath(),
+                    cassette.mode().name().toLowerCase(Locale.ROOT), cassette.size());
+        }
+    }
+
+    @Override
+    public void onFinish(ISuite suite) {
+        Cassette cassette = Cassette.active();
+        if (cassette == null || cassette.mode() != Cassette.Mode.RECORD) {
+            return;
+        }
+        try {
+            cassette.save();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not write cassette " + cassette.file().toAbsolutePath(), e);
+        }
+        log.info("Recorded {} HTTP exchanges to {}", cassette.size(), cassette.file().toAbsolutePath());
+    }
+}
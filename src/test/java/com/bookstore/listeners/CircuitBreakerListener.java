@@ -0,0 +1,58 @@
+package com.bookstore.listeners;
+
+import com.bookstore.clients.CircuitOpenException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.testng.IInvokedMethod;
+import org.testng.IInvokedMethodListener;
+import org.testng.ISuite;
+import org.testng.ISuiteListener;
+import org.testng.ITestResult;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Reports tests that failed only because the target was down as skipped: a test whose failure was caused by a
+ * {@link CircuitOpenException} never reached the API, so it says nothing about the API's behavior. The verdict is
+ * changed in {@code afterInvocation}, so TestNG and Allure both show the skip, with the open circuit as the reason.
+ * The tests that failed before the circuit opened keep their real failures.
+ */
+public class CircuitBreakerListener implements IInvokedMethodListener, ISuiteListener {
+
+    private static final Logger log = LoggerFactory.getLogger(CircuitBreakerListener.class);
+
+    private final AtomicInteger skipped = new AtomicInteger();
+    private volatile CircuitOpenException first;
+
+    @Override
+    public void afterInvocation(IInvokedMethod method, ITestResult testResult) {
+        if (!method.isTestMethod() || testResult.getStatus() != ITestResult.FAILURE) {
+            return;
+        }
+        CircuitOpenException open = circuitOpen(testResult.getThrowable());
+        if (open == null) {
+            return;
+        }
+        testResult.setStatus(ITestResult.SKIP);
+        testResult.setThrowable(open);
+        if (skipped.getAndIncrement() == 0) {
+            first = open;
+        }
+    }
+
+    @Override
+    public void onFinish(ISuite suite) {
+        if (skipped.get() > 0) {
+            log.warn("{} tests skipped because the circuit breaker was open: {}", skipped.get(), first.getMessage());
+        }
+    }
+
+    private static CircuitOpenException circuitOpen(Throwable failure) {
+        for (Throwable cause = failure; cause != null; cause = cause.getCause()) {
+            if (cause instanceof CircuitOpenException open) {
+                return open;
+            }
+        }
+        return null;
+    }
+}
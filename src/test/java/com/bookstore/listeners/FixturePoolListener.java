@@ -0,0 +1,26 @@
+package com.bookstore.listeners;
+
+import com.bookstore.fixtures.Fixtures;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.testng.ISuite;
+import org.testng.ISuiteListener;
+
+/**
+ * Deletes the fixtures of every {@link Fixtures} pool after the suite and logs the pools' summaries. The pools
+ * themselves are filled by the first test that leases from them, so a suite that leases nothing creates nothing.
+ * Registered after {@link StubServerListener}, so the stub is still up when the fixtures are deleted.
+ */
+public class FixturePoolListener implements ISuiteListener {
+
+    private static final Logger log = LoggerFactory.getLogger(FixturePoolListener.class);
+
+    @Override
+    public void onFinish(ISuite suite) {
+        try {
+            Fixtures.closeAll().forEach(log::info);
+        } catch (RuntimeException e) {
+            log.warn("Could not delete the leased fixtures: {}", e.toString());
+        }
+    }
+}
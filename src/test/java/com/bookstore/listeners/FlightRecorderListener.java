@@ -0,0 +1,49 @@
+package com.bookstore.listeners;
+
+import com.bookstore.config.Config;
+import com.bookstore.jfr.SuiteRecording;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.testng.ISuite;
+import org.testng.ISuiteListener;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+/**
+ * Records the suite with Java Flight Recorder when {@code -Dbookstore.jfr=true} and writes the recording to
+ * {@link Config#JFR_DIR} at the end. While it runs, {@link LatencyBudgetListener} attaches a dump to every test
+ * that breaches its latency budget.
+ */
+public class FlightRecorderListener implements ISuiteListener {
+
+    private static final Logger log = LoggerFactory.getLogger(FlightRecorderListener.class);
+
+    @Override
+    public void onStart(ISuite suite) {
+        if (!Config.JFR_RECORDING || SuiteRecording.active() != null) {
+            return;
+        }
+        try {
+            SuiteRecording.start(Config.JFR_SETTINGS, Path.of(Config.JFR_DIR));
+            log.info("Flight recording started with '{}' settings", Config.JFR_SETTINGS);
+        } catch (IOException | IllegalStateException e) {
+            log.warn("Could not start the flight recording: {}", e.toString());
+        }
+    }
+
+    @Override
+    public void onFinish(ISuite suite) {
+        SuiteRecording recording = SuiteRecording.active();
+        if (recording == null) {
+            return;
+        }
+        try {
+            log.info("Flight recording written to {}", recording.dump(suite.getName()));
+        } catch (IOException e) {
+            log.warn("Could not write the flight recording: {}", e.toString());
+        } finally {
+            SuiteRecording.stop();
+        }
+    }
+}
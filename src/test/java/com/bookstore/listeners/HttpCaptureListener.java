@@ -0,0 +1,44 @@
+package com.bookstore.listeners;
+
+import com.bookstore.clients.ExchangeCapture;
+import io.qameta.allure.Allure;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.testng.IInvokedMethod;
+import org.testng.IInvokedMethodListener;
+import org.testng.ITestResult;
+
+/**
+ * Captures the HTTP exchanges of each test method and renders them to the log and to the Allure report
+ * only when the test fails. Runs in {@code afterInvocation} so the attachment lands on the test
+ * before Allure closes it.
+ */
+public class HttpCaptureListener implements IInvokedMethodListener {
+
+    private static final Logger log = LoggerFactory.getLogger(HttpCaptureListener.class);
+
+    @Override
+    public void beforeInvocation(IInvokedMethod method, ITestResult testResult) {
+        if (method.isTestMethod()) {
+            ExchangeCapture.begin();
+        }
+    }
+
+    @Override
+    public void afterInvocation(IInvokedMethod method, ITestResult testResult) {
+        if (!method.isTestMethod()) {
+            return;
+        }
+        try {
+            if (testResult.getStatus() == ITestResult.FAILURE) {
+                String exchanges = ExchangeCapture.render();
+                if (!exchanges.isEmpty()) {
+                    log.error("HTTP exchanges of failed test {}:\n{}", testResult.getName(), exchanges);
+                    Allure.addAttachment("HTTP exchanges", "text/plain", exchanges, ".txt");
+                }
+            }
+        } finally {
+            ExchangeCapture.end();
+        }
+    }
+}
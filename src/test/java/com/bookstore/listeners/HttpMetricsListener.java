@@ -0,0 +1,96 @@
+package com.bookstore.listeners;
+
+import com.bookstore.config.Config;
+import com.bookstore.config.Environment;
+import com.bookstore.metrics.EndpointMetrics;
+import io.qameta.allure.Allure;
+import io.qameta.allure.AllureLifecycle;
+import io.qameta.allure.model.Label;
+import io.qameta.allure.model.Status;
+import io.qameta.allure.model.TestResult;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.testng.ISuite;
+import org.testng.ISuiteListener;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Publishes the per-endpoint HTTP metrics at the end of the suite: logged as a table, written to
+ * {@link Config#METRICS_FILE} in Prometheus text format, and attached to the Allure report.
+ * <p>
+ * In a fan-out run, a side-by-side latency table of the environments is logged and attached as well.
+ * <p>
+ * Allure only accepts attachments on a running test, so the summary is reported as a separate
+ * "HTTP metrics" result of the suite.
+ */
+public class HttpMetricsListener implements ISuiteListener {
+
+    private static final Logger log = LoggerFactory.getLogger(HttpMetricsListener.class);
+
+    @Override
+    public void onFinish(ISuite suite) {
+        EndpointMetrics metrics = EndpointMetrics.global();
+        if (metrics.isEmpty()) {
+            return;
+        }
+        String summary = metrics.renderSummary();
+        String prometheus = metrics.renderPrometheus();
+        log.info("HTTP metrics of suite {}:\n{}", suite.getName(), summary);
+
+        String comparison = null;
+        List<Environment> environments = Environment.configured();
+        if (!environments.isEmpty()) {
+            Map<String, EndpointMetrics> columns = new LinkedHashMap<>();
+            environments.forEach(environment ->
+                    columns.put(environment.name(), EndpointMetrics.environment(environment.name())));
+            comparison = EndpointMetrics.renderComparison(columns);
+            log.info("HTTP latency by environment:\n{}", comparison);
+        }
+
+        Path file = Path.of(Config.METRICS_FILE);
+        try {
+            metrics.writePrometheus(file);
+            log.info("HTTP metrics written to {}", file.toAbsolutePath());
+        } catch (IOException e) {
+            log.warn("Could not write HTTP metrics to {}", file, e);
+        }
+
+        attach(suite.getName(), summary, prometheus, comparison);
+    }
+
+    private static void attach(String suiteName, String summary, String prometheus, String comparison) {
+        AllureLifecycle lifecycle = Allure.getLifecycle();
+        String uuid = UUID.randomUUID().toString();
+        long now = System.currentTimeMillis();
+        // One result per shard: with the same history id, the merged report would show three shards as retries
+        boolean sharded = Config.SHARD != null && !Config.SHARD.isBlank();
+        String name = sharded ? "HTTP metrics (shard " + Config.SHARD.trim() + ")" : "HTTP metrics";
+        lifecycle.scheduleTestCase(new TestResult()
+                .setUuid(uuid)
+                .setHistoryId("http-metrics:" + suiteName + (sharded ? ":" + Config.SHARD.trim() : ""))
+                .setName(name)
+                .setFullName(suiteName + ": " + name)
+                .setStatus(Status.PASSED)
+                .setStart(now)
+                .setLabels(List.of(
+                        new Label().setName("suite").setValue(suiteName),
+                        new Label().setName("epic").setValue("Metrics"))));
+        lifecycle.startTestCase(uuid);
+        lifecycle.addAttachment("HTTP metrics", "text/plain", ".txt", summary.getBytes(StandardCharsets.UTF_8));
+        lifecycle.addAttachment("HTTP metrics (Prometheus)", "text/plain", ".prom",
+                prometheus.getBytes(StandardCharsets.UTF_8));
+        if (comparison != null) {
+            lifecycle.addAttachment("HTTP latency by environment", "text/plain", ".txt",
+                    comparison.getBytes(StandardCharsets.UTF_8));
+        }
+        lifecycle.stopTestCase(uuid);
+        lifecycle.writeTestCase(uuid);
+    }
+}
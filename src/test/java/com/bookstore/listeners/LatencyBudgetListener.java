@@ -0,0 +1,131 @@
+package com.bookstore.listeners;
+
+import com.bookstore.config.Config;
+import com.bookstore.jfr.SuiteRecording;
+import com.bookstore.metrics.MaxLatency;
+import com.bookstore.metrics.TestLatencies;
+import io.qameta.allure.Allure;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.testng.IInvokedMethod;
+import org.testng.IInvokedMethodListener;
+import org.testng.ITestResult;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.reflect.Method;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Enforces {@link MaxLatency} budgets: records the HTTP calls of each annotated test and fails it (or warns)
+ * when the requested percentile exceeds the budget. Only tests that passed otherwise are judged, and the
+ * verdict is reached in {@code afterInvocation} so it is reflected in TestNG and Allure alike.
+ * Breaches only fail tests against the embedded stub or with {@code -Dbookstore.latency.budgets=on}; otherwise
+ * ({@code warn}) every breach is a warning, and {@code off} disables the check.
+ * When the suite is being recorded ({@code -Dbookstore.jfr=true}), a dump of the flight recording is attached
+ * to the breaching test as well, to line its slow calls up with GC pauses and thread stalls.
+ */
+public class LatencyBudgetListener implements IInvokedMethodListener {
+
+    private static final Logger log = LoggerFactory.getLogger(LatencyBudgetListener.class);
+
+    @Override
+    public void beforeInvocation(IInvokedMethod method, ITestResult testResult) {
+        if (method.isTestMethod() && budgetOf(method) != null) {
+            TestLatencies.begin();
+        }
+    }
+
+    @Override
+    public void afterInvocation(IInvokedMethod method, ITestResult testResult) {
+        if (!method.isTestMethod()) {
+            return;
+        }
+        MaxLatency budget = budgetOf(method);
+        if (budget == null) {
+            return;
+        }
+        try {
+            if (testResult.getStatus() == ITestResult.SUCCESS) {
+                check(budget, testResult);
+            }
+        } finally {
+            TestLatencies.end();
+        }
+    }
+
+    private static void check(MaxLatency budget, ITestResult testResult) {
+        List<TestLatencies.Sample> samples = TestLatencies.samples();
+        long observedMillis = TestLatencies.percentileNanos(samples, budget.p()) / 1_000_000;
+        if (samples.isEmpty() || observedMillis <= budget.millis()) {
+            return;
+        }
+
+        String message = String.format(Locale.ROOT, "p%s of %d HTTP calls was %d ms, budget is %d ms%n%s",
+                format(budget.p()), samples.size(), observedMillis, budget.millis(), slowest(samples));
+        Allure.addAttachment("Latency budget exceeded", "text/plain", message, ".txt");
+        attachRecording(testResult);
+        if (budget.action() == MaxLatency.Action.FAIL && "on".equalsIgnoreCase(Config.LATENCY_BUDGETS)) {
+            testResult.setStatus(ITestResult.FAILURE);
+            testResult.setThrowable(new AssertionError("Latency budget exceeded: " + message));
+        } else {
+            log.warn("Latency budget exceeded in {}: {}", testResult.getName(), message);
+        }
+    }
+
+    private static void attachRecording(ITestResult testResult) {
+        SuiteRecording recording = SuiteRecording.active();
+        if (recording == null) {
+            return;
+        }
+        try {
+            Path dump = recording.dump(testResult.getTestClass().getRealClass().getSimpleName() + "."
+                    + testResult.getName());
+            try (InputStream content = Files.newInputStream(dump)) {
+                Allure.addAttachment("Flight recording", "application/octet-stream", content, ".jfr");
+            }
+            log.info("Flight recording of {} written to {}", testResult.getName(), dump);
+        } catch (IOException e) {
+            log.warn("Could not dump the flight recording for {}: {}", testResult.getName(), e.toString());
+        }
+    }
+
+    private static MaxLatency budgetOf(IInvokedMethod method) {
+        if ("off".equalsIgnoreCase(Config.LATENCY_BUDGETS)) {
+            return null;
+        }
+        Method javaMethod = method.getTestMethod().getConstructorOrMethod().getMethod();
+        if (javaMethod == null) {
+            return null;
+        }
+        MaxLatency budget = javaMethod.getAnnotation(MaxLatency.class);
+        if (budget != null) {
+            return budget;
+        }
+        for (Class<?> type = method.getTestMethod().getRealClass(); type != null; type = type.getSuperclass()) {
+            budget = type.getAnnotation(MaxLatency.class);
+            if (budget != null) {
+                return budget;
+            }
+        }
+        return null;
+    }
+
+    private static String slowest(List<TestLatencies.Sample> samples) {
+        StringBuilder out = new StringBuilder("Slowest calls:\n");
+        samples.stream()
+                .sorted(Comparator.comparingLong(TestLatencies.Sample::nanos).reversed())
+                .limit(5)
+                .forEach(sample -> out.append(String.format(Locale.ROOT, "  %8.1f ms  %s%n",
+                        sample.nanos() / 1_000_000d, sample.endpoint())));
+        return out.toString();
+    }
+
+    private static String format(double percentile) {
+        return percentile == Math.rint(percentile) ? Long.toString((long) percentile) : Double.toString(percentile);
+    }
+}
@@ -0,0 +1,26 @@
+package com.bookstore.listeners;
+
+import com.bookstore.metrics.StartupTimes;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.testng.ISuite;
+import org.testng.ISuiteListener;
+
+/**
+ * Logs the {@link StartupTimes} of the run at the end of the suite. Registered before the other listeners, so
+ * the suite start it marks precedes the stub and fixture setup (and their first requests).
+ */
+public class StartupTimeListener implements ISuiteListener {
+
+    private static final Logger log = LoggerFactory.getLogger(StartupTimeListener.class);
+
+    @Override
+    public void onStart(ISuite suite) {
+        StartupTimes.markSuiteStart();
+    }
+
+    @Override
+    public void onFinish(ISuite suite) {
+        log.info("Startup of suite {}: {}", suite.getName(), StartupTimes.render());
+    }
+}
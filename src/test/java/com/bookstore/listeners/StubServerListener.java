@@ -0,0 +1,44 @@
+package com.bookstore.listeners;
+
+import com.bookstore.config.Config;
+import com.bookstore.stub.BookstoreStub;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.testng.ISuite;
+import org.testng.ISuiteListener;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+
+/**
+ * Starts the embedded {@link BookstoreStub} before the suite when {@code -Dbookstore.stub=true} and points
+ * the default clients at it. Without the property the suite runs against {@link Config#BASE_URL}.
+ */
+public class StubServerListener implements ISuiteListener {
+
+    private static final Logger log = LoggerFactory.getLogger(StubServerListener.class);
+
+    private BookstoreStub stub;
+
+    @Override
+    public void onStart(ISuite suite) {
+        if (!Config.USE_STUB || stub != null) {
+            return;
+        }
+        try {
+            stub = BookstoreStub.start(Config.STUB_PORT);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not start the embedded bookstore stub", e);
+        }
+        System.setProperty("bookstore.baseUrl", stub.baseUrl());
+        log.info("Embedded bookstore stub listening on {}", stub.baseUrl());
+    }
+
+    @Override
+    public void onFinish(ISuite suite) {
+        if (stub != null) {
+            stub.close();
+            stub = null;
+        }
+    }
+}
@@ -0,0 +1,82 @@
+package com.bookstore.runner;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.testng.ITestNGMethod;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Properties;
+import java.util.TreeMap;
+
+/**
+ * Reads and writes test method durations as {@code class#method=millis} properties files, shared by
+ * {@link TestDurationRecorder}, {@link ShardInterceptor} and {@link LongestFirstScheduler}.
+ */
+final class DurationHistory {
+
+    private static final Logger log = LoggerFactory.getLogger(DurationHistory.class);
+
+    private DurationHistory() {
+    }
+
+    /**
+     * Stable identifier of a test method, used as the key in duration files.
+     */
+    static String key(ITestNGMethod method) {
+        return key(method.getRealClass().getName(), method.getMethodName());
+    }
+
+    static String key(String className, String methodName) {
+        return className + "#" + methodName;
+    }
+
+    /**
+     * Durations from {@code file}, or an empty map if it does not exist or cannot be read.
+     */
+    static Map<String, Long> load(Path file) {
+        Map<String, Long> durations = new HashMap<>();
+        if (!Files.isRegularFile(file)) {
+            return durations;
+        }
+        Properties properties = new Properties();
+        try (Reader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            properties.load(reader);
+        } catch (IOException e) {
+            log.warn("Could not read test durations from {}", file, e);
+            return durations;
+        }
+        for (String name : properties.stringPropertyNames()) {
+            try {
+                durations.put(name, Long.parseLong(properties.getProperty(name).trim()));
+            } catch (NumberFormatException e) {
+                log.warn("Ignoring invalid duration for {}: {}", name, properties.getProperty(name));
+            }
+        }
+        return durations;
+    }
+
+    static void store(Path file, Map<String, Long> durations) throws IOException {
+        Properties properties = new Properties();
+        new TreeMap<>(durations).forEach((key, millis) -> properties.setProperty(key, Long.toString(millis)));
+        if (file.getParent() != null) {
+            Files.createDirectories(file.getParent());
+        }
+        try (Writer writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+            properties.store(writer, "Test method durations in ms");
+        }
+    }
+
+    /**
+     * Mean of the known durations, used for methods without history; {@code 1} when nothing is known.
+     */
+    static long average(Map<String, Long> durations) {
+        return Math.max(1, (long) durations.values().stream().mapToLong(Long::longValue).average().orElse(1));
+    }
+}
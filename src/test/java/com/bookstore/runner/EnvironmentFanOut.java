@@ -0,0 +1,75 @@
+package com.bookstore.runner;
+
+import com.bookstore.config.Config;
+import com.bookstore.config.Environment;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.testng.IAlterSuiteListener;
+import org.testng.xml.XmlClass;
+import org.testng.xml.XmlSuite;
+import org.testng.xml.XmlTest;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Runs the suite against every environment of {@code -Dbookstore.environments} at once.
+ * <p>
+ * Each {@code <test>} is copied once per environment, named {@code "<test> [<environment>]"} and given the
+ * {@link Environment#PARAMETER} parameter, which binds the clients of {@link com.bookstore.base.BaseTest} to that
+ * environment and shows up as a parameter of every result in Allure. The copies run side by side
+ * ({@code parallel="tests"}), each keeping the suite's own parallel mode and thread count for its classes, so
+ * the wall time is that of the slowest environment rather than the sum. Registered after the other suite
+ * listeners, so the copies inherit their reshaping and ordering. Without the property the suite is left
+ * untouched.
+ */
+public class EnvironmentFanOut implements IAlterSuiteListener {
+
+    private static final Logger log = LoggerFactory.getLogger(EnvironmentFanOut.class);
+
+    @Override
+    public void alter(List<XmlSuite> suites) {
+        List<Environment> environments = Environment.configured();
+        if (environments.isEmpty()) {
+            return;
+        }
+        for (XmlSuite suite : suites) {
+            List<XmlTest> originals = new ArrayList<>(suite.getTests());
+            if (originals.isEmpty()) {
+                continue;
+            }
+            List<XmlTest> copies = new ArrayList<>();
+            for (Environment environment : environments) {
+                for (XmlTest original : originals) {
+                    copies.add(copy(original, environment));
+                }
+            }
+            // clone() registers every copy with the suite as well; keep only the copies, in order
+            suite.getTests().clear();
+            suite.getTests().addAll(copies);
+
+            suite.setParallel(XmlSuite.ParallelMode.TESTS);
+            suite.setThreadCount(copies.size());
+            log.info("Fanning out '{}' across {} environments: {}", suite.getName(), environments.size(),
+                    Config.ENVIRONMENTS);
+        }
+    }
+
+    private static XmlTest copy(XmlTest original, Environment environment) {
+        XmlTest copy = (XmlTest) original.clone();
+        copy.setName(original.getName() + " [" + environment.name() + "]");
+        copy.addParameter(Environment.PARAMETER, environment.name());
+        // Resolved against the suite before it switches to parallel="tests"
+        copy.setParallel(original.getParallel());
+        copy.setThreadCount(original.getThreadCount());
+
+        List<XmlClass> classes = new ArrayList<>();
+        for (XmlClass xmlClass : original.getXmlClasses()) {
+            XmlClass copied = (XmlClass) xmlClass.clone();
+            copied.setXmlTest(copy);
+            classes.add(copied);
+        }
+        copy.setXmlClasses(classes);
+        return copy;
+    }
+}
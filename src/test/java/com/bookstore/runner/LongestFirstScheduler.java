@@ -0,0 +1,99 @@
+package com.bookstore.runner;
+
+import com.bookstore.config.Config;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.testng.IAlterSuiteListener;
+import org.testng.IMethodInstance;
+import org.testng.IMethodInterceptor;
+import org.testng.ITestContext;
+import org.testng.xml.XmlClass;
+import org.testng.xml.XmlSuite;
+import org.testng.xml.XmlTest;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Longest-processing-time-first scheduling from the duration history ({@link Config#DURATIONS_HISTORY}).
+ * <p>
+ * With {@code parallel="classes"} a class is the unit handed to a worker thread, so the classes of every
+ * {@code <test>} are reordered by their total historical duration, longest first: slow classes start right
+ * away instead of dominating the tail of the run. Within a class, methods run longest first as well. Unknown
+ * methods count as the average duration, and without a history file the declared order is kept. The
+ * {@code <test>} blocks themselves still run one after another, so each block is balanced on its own.
+ * {@code -Dbookstore.schedule=declared} disables the reordering.
+ */
+public class LongestFirstScheduler implements IAlterSuiteListener, IMethodInterceptor {
+
+    private static final Logger log = LoggerFactory.getLogger(LongestFirstScheduler.class);
+
+    private final Map<String, Long> durations = enabled()
+            ? DurationHistory.load(Path.of(Config.DURATIONS_HISTORY)) : Map.of();
+    private final long fallback = DurationHistory.average(durations);
+
+    @Override
+    public void alter(List<XmlSuite> suites) {
+        if (durations.isEmpty()) {
+            return;
+        }
+        Map<String, Long> classTotals = classTotals();
+        for (XmlSuite suite : suites) {
+            for (XmlTest test : suite.getTests()) {
+                List<XmlClass> classes = new ArrayList<>(test.getXmlClasses());
+                // Stable sort: classes without history keep their relative order
+                classes.sort(Comparator.comparingLong(
+                        (XmlClass xmlClass) -> classTotals.getOrDefault(xmlClass.getName(), 0L)).reversed());
+                test.setXmlClasses(classes);
+                log.info("Longest-first order for '{}': {}", test.getName(),
+                        classes.stream().map(XmlClass::getName).map(LongestFirstScheduler::simpleName).toList());
+            }
+        }
+    }
+
+    @Override
+    public List<IMethodInstance> intercept(List<IMethodInstance> methods, ITestContext context) {
+        if (durations.isEmpty()) {
+            return methods;
+        }
+        Map<Class<?>, Long> classTotals = new HashMap<>();
+        for (IMethodInstance method : methods) {
+            classTotals.merge(method.getMethod().getRealClass(), duration(method), Long::sum);
+        }
+        List<IMethodInstance> ordered = new ArrayList<>(methods);
+        // Keep each class together (parallel="classes"), longest class first, then longest method first
+        ordered.sort(Comparator
+                .comparingLong((IMethodInstance method) -> classTotals.get(method.getMethod().getRealClass()))
+                .reversed()
+                .thenComparing(method -> method.getMethod().getRealClass().getName())
+                .thenComparing(Comparator.comparingLong(this::duration).reversed()));
+        return ordered;
+    }
+
+    private long duration(IMethodInstance method) {
+        return durations.getOrDefault(DurationHistory.key(method.getMethod()), fallback);
+    }
+
+    private Map<String, Long> classTotals() {
+        Map<String, Long> totals = new HashMap<>();
+        durations.forEach((key, millis) -> {
+            int separator = key.indexOf('#');
+            if (separator > 0) {
+                totals.merge(key.substring(0, separator), millis, Long::sum);
+            }
+        });
+        return totals;
+    }
+
+    private static boolean enabled() {
+        return "longest-first".equalsIgnoreCase(Config.SCHEDULE);
+    }
+
+    private static String simpleName(String className) {
+        return className.substring(className.lastIndexOf('.') + 1);
+    }
+}
@@ -0,0 +1,114 @@
+package com.bookstore.runner;
+
+import com.bookstore.config.Config;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.testng.IMethodInstance;
+import org.testng.IMethodInterceptor;
+import org.testng.ITestContext;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Keeps only the test methods of one shard when the suite runs as {@code -Dshard=i/n}, so n JVMs (or CI
+ * machines) together run every test exactly once.
+ * <p>
+ * With the default {@code hash} strategy a method belongs to shard {@code hash(class#method) mod n}, which is
+ * stable across runs and machines. With {@code -Dshard.strategy=duration} the methods are balanced by their
+ * durations from {@link Config#SHARD_DURATIONS} (written by {@link TestDurationRecorder}): longest first, each
+ * to the shard with the least total time so far. Methods missing from the file count as the average duration.
+ * Both strategies only depend on the method list and the file, so every shard computes the same assignment.
+ */
+public class ShardInterceptor implements IMethodInterceptor {
+
+    private static final Logger log = LoggerFactory.getLogger(ShardInterceptor.class);
+
+    @Override
+    public List<IMethodInstance> intercept(List<IMethodInstance> methods, ITestContext context) {
+        if (Config.SHARD == null || Config.SHARD.isBlank()) {
+            return methods;
+        }
+        int[] shard = parse(Config.SHARD);
+        int index = shard[0] - 1;
+        int count = shard[1];
+
+        int[] assignment = "duration".equalsIgnoreCase(Config.SHARD_STRATEGY)
+                ? byDuration(methods, count, durations())
+                : byHash(methods, count);
+
+        List<IMethodInstance> selected = new ArrayList<>();
+        for (int i = 0; i < methods.size(); i++) {
+            if (assignment[i] == index) {
+                selected.add(methods.get(i));
+            }
+        }
+        log.info("Shard {}/{} ({}): running {} of {} methods in '{}'", shard[0], count,
+                Config.SHARD_STRATEGY, selected.size(), methods.size(), context.getName());
+        return selected;
+    }
+
+    private static int[] byHash(List<IMethodInstance> methods, int count) {
+        int[] assignment = new int[methods.size()];
+        for (int i = 0; i < methods.size(); i++) {
+            assignment[i] = Math.floorMod(DurationHistory.key(methods.get(i).getMethod()).hashCode(), count);
+        }
+        return assignment;
+    }
+
+    private static int[] byDuration(List<IMethodInstance> methods, int count, Map<String, Long> durations) {
+        long fallback = DurationHistory.average(durations);
+        List<Integer> order = new ArrayList<>();
+        for (int i = 0; i < methods.size(); i++) {
+            order.add(i);
+        }
+        Map<Integer, String> keys = new HashMap<>();
+        order.forEach(i -> keys.put(i, DurationHistory.key(methods.get(i).getMethod())));
+        order.sort(Comparator.<Integer>comparingLong(i -> durations.getOrDefault(keys.get(i), fallback))
+                .reversed()
+                .thenComparing(keys::get));
+
+        int[] assignment = new int[methods.size()];
+        long[] load = new long[count];
+        for (int i : order) {
+            int lightest = 0;
+            for (int s = 1; s < count; s++) {
+                if (load[s] < load[lightest]) {
+                    lightest = s;
+                }
+            }
+            assignment[i] = lightest;
+            load[lightest] += durations.getOrDefault(keys.get(i), fallback);
+        }
+        return assignment;
+    }
+
+    private static Map<String, Long> durations() {
+        Path file = Path.of(Config.SHARD_DURATIONS);
+        Map<String, Long> durations = DurationHistory.load(file);
+        if (durations.isEmpty()) {
+            log.warn("No test durations at {}; all methods are weighted equally", file.toAbsolutePath());
+        }
+        return durations;
+    }
+
+    private static int[] parse(String shard) {
+        String[] parts = shard.trim().split("/");
+        try {
+            if (parts.length == 2) {
+                int index = Integer.parseInt(parts[0].trim());
+                int count = Integer.parseInt(parts[1].trim());
+                if (count > 0 && index >= 1 && index <= count) {
+                    return new int[]{index, count};
+                }
+            }
+        } catch (NumberFormatException e) {
+            // reported below
+        }
+        throw new IllegalArgumentException("Invalid -Dshard=" + shard + ", expected i/n with 1 <= i <= n");
+    }
+}
@@ -0,0 +1,60 @@
+package com.bookstore.runner;
+
+import com.bookstore.config.Config;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.testng.ISuite;
+import org.testng.ISuiteListener;
+import org.testng.ISuiteResult;
+import org.testng.ITestContext;
+import org.testng.ITestResult;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Writes the duration of every executed test method at the end of the suite, as {@code class#method=millis}.
+ * <p>
+ * {@link Config#DURATIONS_FILE} receives this run only; files from several shards have disjoint keys and can
+ * simply be concatenated. {@link Config#DURATIONS_HISTORY} is updated in place: known methods move halfway
+ * towards the new duration, which damps one-off slow runs.
+ */
+public class TestDurationRecorder implements ISuiteListener {
+
+    private static final Logger log = LoggerFactory.getLogger(TestDurationRecorder.class);
+
+    @Override
+    public void onFinish(ISuite suite) {
+        Map<String, Long> durations = new HashMap<>();
+        for (ISuiteResult result : suite.getResults().values()) {
+            ITestContext context = result.getTestContext();
+            record(durations, context.getPassedTests().getAllResults());
+            record(durations, context.getFailedTests().getAllResults());
+            record(durations, context.getFailedButWithinSuccessPercentageTests().getAllResults());
+        }
+        if (durations.isEmpty()) {
+            return;
+        }
+
+        Path file = Path.of(Config.DURATIONS_FILE);
+        Path historyFile = Path.of(Config.DURATIONS_HISTORY);
+        try {
+            DurationHistory.store(file, durations);
+            Map<String, Long> history = DurationHistory.load(historyFile);
+            durations.forEach((key, millis) -> history.merge(key, millis, (old, current) -> (old + current) / 2));
+            DurationHistory.store(historyFile, history);
+        } catch (IOException e) {
+            log.warn("Could not write test durations to {} / {}", file, historyFile, e);
+        }
+    }
+
+    private static void record(Map<String, Long> durations, Iterable<ITestResult> results) {
+        for (ITestResult result : results) {
+            // Data-driven and retried methods run several times; their total counts toward the schedule
+            durations.merge(DurationHistory.key(result.getMethod()),
+                    Math.max(0, result.getEndMillis() - result.getStartMillis()), Long::sum);
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package com.bookstore.runner;
+
+import org.testng.IExecutorServiceFactory;
+
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * TestNG executor factory that runs test methods on virtual threads.
+ * <p>
+ * Keeps the pool sizes and work queue TestNG asks for (and so its dependency-graph scheduling) and only
+ * swaps the thread factory, so blocking HTTP calls park a cheap virtual thread instead of occupying a
+ * platform thread. Passed to TestNG with {@code -threadpoolfactoryclass} (see the {@code virtual-threads}
+ * Maven profile).
+ */
+public class VirtualThreadExecutorFactory implements IExecutorServiceFactory {
+
+    @Override
+    public ExecutorService create(int corePoolSize,
+                                  int maximumPoolSize,
+                                  long keepAliveTime,
+                                  TimeUnit unit,
+                                  BlockingQueue<Runnable> workQueue,
+                                  ThreadFactory threadFactory) {
+        return new ThreadPoolExecutor(corePoolSize, maximumPoolSize, keepAliveTime, unit, workQueue,
+                Thread.ofVirtual().name("testng-vt-", 0).factory());
+    }
+}
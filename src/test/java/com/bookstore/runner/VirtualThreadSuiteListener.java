@@ -0,0 +1,45 @@
+package com.bookstore.runner;
+
+import com.bookstore.config.Config;
+import org.testng.IAlterSuiteListener;
+import org.testng.xml.XmlClass;
+import org.testng.xml.XmlSuite;
+import org.testng.xml.XmlTest;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Reshapes the suite for virtual-thread execution when {@code -Dbookstore.virtualThreads=true}.
+ * <p>
+ * All {@code <test>} blocks are flattened into one and run with {@code parallel="methods"}, so every test
+ * method in the suite is eligible to run at the same time. Without the property the suite is left untouched.
+ */
+public class VirtualThreadSuiteListener implements IAlterSuiteListener {
+
+    @Override
+    public void alter(List<XmlSuite> suites) {
+        if (!Config.VIRTUAL_THREADS) {
+            return;
+        }
+        for (XmlSuite suite : suites) {
+            List<XmlTest> tests = suite.getTests();
+            if (tests.isEmpty()) {
+                continue;
+            }
+            XmlTest merged = tests.get(0);
+            List<XmlClass> classes = new ArrayList<>(merged.getXmlClasses());
+            for (XmlTest test : tests.subList(1, tests.size())) {
+                classes.addAll(test.getXmlClasses());
+            }
+            merged.setXmlClasses(classes);
+            merged.setName(suite.getName() + " (virtual threads)");
+            tests.retainAll(List.of(merged));
+
+            suite.setParallel(XmlSuite.ParallelMode.METHODS);
+            suite.setThreadCount(Config.VIRTUAL_THREAD_COUNT);
+            merged.setParallel(XmlSuite.ParallelMode.METHODS);
+            merged.setThreadCount(Config.VIRTUAL_THREAD_COUNT);
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package com.bookstore.tests.authors;
+
+import com.bookstore.base.BaseTest;
+import com.bookstore.models.Author;
+import io.qameta.allure.*;
+import io.restassured.response.Response;
+import org.testng.annotations.Test;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.IntStream;
+
+import static org.testng.Assert.*;
+
+@Epic("Authors API")
+@Feature("Async Operations")
+public class AuthorsAsyncTests extends BaseTest {
+
+    @Test(description = "Verify many concurrent GET by ID requests all succeed")
+    @Description("Concurrency: 100 GET /api/v1/Authors/{id} requests in flight at once")
+    @Severity(SeverityLevel.NORMAL)
+    public void testGetAuthorsById_Concurrent_Success() {
+        List<CompletableFuture<Response>> requests = IntStream.rangeClosed(1, 100)
+                .mapToObj(asyncAuthorsClient()::getAuthorById)
+                .toList();
+
+        CompletableFuture.allOf(requests.toArray(CompletableFuture[]::new)).join();
+
+        for (int i = 0; i < requests.size(); i++) {
+            Response response = requests.get(i).join();
+            assertEquals(response.getStatusCode(), 200, "Status code should be 200");
+            assertEquals(response.as(Author.class).getId(), i + 1, "Author ID should match requested ID");
+        }
+    }
+
+    @Test(description = "Verify async create returns the created author")
+    @Description("Happy path: POST /api/v1/Authors through the non-blocking client")
+    @Severity(SeverityLevel.NORMAL)
+    public void testCreateAuthor_Async_Success() {
+        Author newAuthor = Author.builder()
+                .id(9990)
+                .idBook(1)
+                .firstName("Async")
+                .lastName("Author")
+                .build();
+
+        Response response = asyncAuthorsClient().createAuthor(newAuthor).join();
+
+        assertEquals(response.getStatusCode(), 200, "Status code should be 200");
+        assertEquals(response.as(Author.class).getFirstName(), newAuthor.getFirstName());
+    }
+}
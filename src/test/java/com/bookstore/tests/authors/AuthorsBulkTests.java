@@ -0,0 +1,96 @@
+package com.bookstore.tests.authors;
+
+import com.bookstore.base.BaseTest;
+import com.bookstore.clients.BulkOutcome;
+import com.bookstore.fixtures.Lease;
+import com.bookstore.models.Author;
+import io.qameta.allure.*;
+import io.restassured.response.Response;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+
+import static org.testng.Assert.*;
+
+@Epic("Authors API")
+@Feature("Bulk Operations")
+public class AuthorsBulkTests extends BaseTest {
+
+    @Test(description = "Verify bulk create returns one response per author in order")
+    @Description("Bulk: POST /api/v1/Authors for 50 authors with bounded concurrency")
+    @Severity(SeverityLevel.NORMAL)
+    public void testCreateAuthors_Bulk_ResponsesInOrder() {
+        List<Author> authors = IntStream.rangeClosed(1, 50)
+                .mapToObj(i -> author(9000 + i, "Bulk" + i))
+                .toList();
+
+        List<BulkOutcome> outcomes = authorsClient().createAuthors(authors);
+
+        assertEquals(outcomes.size(), authors.size(), "Should return one outcome per author");
+        for (int i = 0; i < authors.size(); i++) {
+            assertEquals(outcomes.get(i).orThrow().getStatusCode(), 200, "Status code should be 200");
+            assertEquals(outcomes.get(i).orThrow().as(Author.class).getFirstName(), authors.get(i).getFirstName(),
+                    "Response " + i + " should belong to author " + i);
+        }
+    }
+
+    @Test(description = "Verify bulk update returns one response per entry in map order")
+    @Description("Bulk: PUT /api/v1/Authors/{id} for 6 leased authors with bounded concurrency")
+    @Severity(SeverityLevel.NORMAL)
+    public void testUpdateAuthors_Bulk_ResponsesInOrder() {
+        List<Lease<Author>> leases = new ArrayList<>();
+        try {
+            for (int i = 0; i < 6; i++) {
+                leases.add(leaseAuthor());
+            }
+            // Reverse lease order, so the map order is not the order the fixtures were created in
+            Map<Integer, Author> authors = new LinkedHashMap<>();
+            for (Lease<Author> lease : leases.reversed()) {
+                lease.modified();
+                authors.put(lease.id(), author(lease.id(), "Updated" + lease.id()));
+            }
+
+            List<BulkOutcome> outcomes = authorsClient().updateAuthors(authors);
+
+            assertEquals(outcomes.size(), authors.size(), "Should return one outcome per author");
+            int i = 0;
+            for (Map.Entry<Integer, Author> entry : authors.entrySet()) {
+                Response response = outcomes.get(i++).orThrow();
+                assertEquals(response.getStatusCode(), 200, "Status code should be 200");
+                assertEquals(response.as(Author.class).getId(), entry.getKey().intValue(), "Author ID should match");
+            }
+        } finally {
+            leases.forEach(Lease::close);
+        }
+    }
+
+    @Test(description = "Verify bulk delete returns 200 for every ID")
+    @Description("Bulk: DELETE /api/v1/Authors/{id} for 30 authors created by the test, with bounded concurrency")
+    @Severity(SeverityLevel.NORMAL)
+    public void testDeleteAuthors_Bulk_Success() {
+        int[] ids = IntStream.rangeClosed(9401, 9430).toArray();
+        List<BulkOutcome> created = authorsClient().createAuthors(Arrays.stream(ids)
+                .mapToObj(id -> author(id, "BulkDelete" + id))
+                .toList());
+        created.forEach(outcome -> assertEquals(outcome.orThrow().getStatusCode(), 200, "Setup POST should succeed"));
+
+        List<BulkOutcome> outcomes = authorsClient().deleteAuthors(ids);
+
+        assertEquals(outcomes.size(), ids.length, "Should return one outcome per ID");
+        outcomes.forEach(outcome -> assertEquals(outcome.orThrow().getStatusCode(), 200, "Status code should be 200"));
+    }
+
+    private static Author author(int id, String firstName) {
+        return Author.builder()
+                .id(id)
+                .idBook(1)
+                .firstName(firstName)
+                .lastName("Bulk")
+                .build();
+    }
+}
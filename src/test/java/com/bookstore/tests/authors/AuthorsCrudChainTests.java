@@ -0,0 +1,107 @@
+package com.bookstore.tests.authors;
+
+import com.bookstore.base.BaseTest;
+import com.bookstore.clients.AuthorsClient;
+import com.bookstore.clients.BooksClient;
+import com.bookstore.models.Author;
+import com.bookstore.models.Book;
+import com.bookstore.scenario.Chain;
+import com.bookstore.scenario.ScenarioGraph;
+import com.bookstore.scenario.ScenarioReport;
+import io.qameta.allure.*;
+import io.restassured.response.Response;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.testng.Assert.*;
+
+@Epic("Authors API")
+@Feature("CRUD Chains")
+public class AuthorsCrudChainTests extends BaseTest {
+
+    private static final Logger log = LoggerFactory.getLogger(AuthorsCrudChainTests.class);
+
+    @Test(description = "Verify author CRUD chains that reference a book created by another chain")
+    @Description("Scenario: POST a book; per author POST, GET, PUT, DELETE /api/v1/Authors; DELETE the book")
+    @Severity(SeverityLevel.CRITICAL)
+    public void testAuthorCrudChains_ShareCreatedBook() {
+        BooksClient books = booksClient();
+        AuthorsClient authors = authorsClient();
+        ScenarioGraph graph = new ScenarioGraph();
+
+        Chain book = graph.chain("book 9200")
+                .step("create", context -> {
+                    Response response = books.createBook(Book.builder()
+                            .id(9200)
+                            .title("Chain Book 9200")
+                            .pageCount(80)
+                            .publishDate("2024-01-01T00:00:00")
+                            .build());
+                    assertEquals(response.getStatusCode(), 200, "Create should succeed");
+                    context.put("id", response.as(Book.class).getId());
+                });
+
+        List<Chain> authorChains = new ArrayList<>();
+        for (int i = 1; i <= 3; i++) {
+            int id = 9200 + i;
+            authorChains.add(graph.chain("author " + id)
+                    .after(book)
+                    .step("create", context -> {
+                        int bookId = book.context().getInt("id");
+                        Response response = authors.createAuthor(author(id, bookId, "Chain"));
+                        assertEquals(response.getStatusCode(), 200, "Create should succeed");
+                        Author created = response.as(Author.class);
+                        assertEquals(created.getIdBook(), bookId, "Author should reference the chain's book");
+                        context.put("id", created.getId());
+                    })
+                    .step("read", context -> {
+                        Response response = authors.getAuthorById(context.getInt("id"));
+                        // FakeRestAPI (and the stub) do not persist created authors
+                        assertTrue(response.getStatusCode() == 200 || response.getStatusCode() == 404,
+                                "Read should find the author or report it missing");
+                        if (response.getStatusCode() == 200) {
+                            assertEquals(response.as(Author.class).getId(), context.getInt("id"));
+                        }
+                    })
+                    .step("update", context -> {
+                        int authorId = context.getInt("id");
+                        Response response = authors.updateAuthor(authorId,
+                                author(authorId, book.context().getInt("id"), "Renamed"));
+                        assertEquals(response.getStatusCode(), 200, "Update should succeed");
+                        assertEquals(response.as(Author.class).getFirstName(), "Renamed");
+                    })
+                    .step("delete", context -> {
+                        Response response = authors.deleteAuthor(context.getInt("id"));
+                        assertEquals(response.getStatusCode(), 200, "Delete should succeed");
+                    }));
+        }
+
+        // The book goes last, once no author references it any more
+        authorChains.forEach(book::after);
+        book.step("delete", context -> {
+            Response response = books.deleteBook(context.getInt("id"));
+            assertEquals(response.getStatusCode(), 200, "Delete should succeed");
+        });
+
+        ScenarioReport report = graph.run();
+
+        String summary = report.render();
+        log.info("Author CRUD chains finished:\n{}", summary);
+        Allure.addAttachment("CRUD chains", "text/plain", summary, ".txt");
+
+        report.assertPassed();
+    }
+
+    private static Author author(int id, int bookId, String firstName) {
+        return Author.builder()
+                .id(id)
+                .idBook(bookId)
+                .firstName(firstName)
+                .lastName("Author " + id)
+                .build();
+    }
+}
@@ -1,6 +1,8 @@
 package com.bookstore.tests.authors;
 
 import com.bookstore.base.BaseTest;
+import com.bookstore.fixtures.Lease;
+import com.bookstore.models.Author;
 import io.qameta.allure.*;
 import io.restassured.response.Response;
 import org.testng.annotations.Test;
@@ -15,11 +17,13 @@ public class AuthorsDeleteTests extends BaseTest {
     @Description("Happy path: DELETE /api/v1/Authors/{id}")
     @Severity(SeverityLevel.CRITICAL)
     public void testDeleteAuthor_ValidId_Success() {
-        int authorId = 1;
-        Response response = authorsClient.deleteAuthor(authorId);
+        try (Lease<Author> lease = leaseAuthor()) {
+            lease.deleted();
+            Response response = authorsClient().deleteAuthor(lease.id());
 
-        assertEquals(response.getStatusCode(), 200,
-                "Should successfully delete author");
+            assertEquals(response.getStatusCode(), 200,
+                    "Should successfully delete author");
+        }
     }
 
     @Test(description = "Verify deleting non-existent author")
@@ -27,7 +31,7 @@ public class AuthorsDeleteTests extends BaseTest {
     @Severity(SeverityLevel.NORMAL)
     public void testDeleteAuthor_NonExistentId() {
         int invalidId = 999999;
-        Response response = authorsClient.deleteAuthor(invalidId);
+        Response response = authorsClient().deleteAuthor(invalidId);
 
         int statusCode = response.getStatusCode();
         assertTrue(statusCode == 200 || statusCode == 404,
@@ -38,7 +42,7 @@ public class AuthorsDeleteTests extends BaseTest {
     @Description("Edge case: DELETE with negative ID")
     @Severity(SeverityLevel.MINOR)
     public void testDeleteAuthor_NegativeId() {
-        Response response = authorsClient.deleteAuthor(-1);
+        Response response = authorsClient().deleteAuthor(-1);
 
         assertNotNull(response, "Response should not be null");
     }
@@ -47,24 +51,27 @@ public class AuthorsDeleteTests extends BaseTest {
     @Description("Edge case: Double deletion (idempotency test)")
     @Severity(SeverityLevel.NORMAL)
     public void testDeleteAuthor_Twice() {
-        int authorId = 5;
+        try (Lease<Author> lease = leaseAuthor()) {
+            int authorId = lease.id();
+            lease.deleted();
 
-        // First deletion
-        Response firstResponse = authorsClient.deleteAuthor(authorId);
-        assertEquals(firstResponse.getStatusCode(), 200);
+            // First deletion
+            Response firstResponse = authorsClient().deleteAuthor(authorId);
+            assertEquals(firstResponse.getStatusCode(), 200);
 
-        // Second deletion
-        Response secondResponse = authorsClient.deleteAuthor(authorId);
-        int statusCode = secondResponse.getStatusCode();
-        assertTrue(statusCode == 200 || statusCode == 404,
-                "Second delete should be idempotent or return 404");
+            // Second deletion
+            Response secondResponse = authorsClient().deleteAuthor(authorId);
+            int statusCode = secondResponse.getStatusCode();
+            assertTrue(statusCode == 200 || statusCode == 404,
+                    "Second delete should be idempotent or return 404");
+        }
     }
 
     @Test(description = "Verify deleting author with zero ID")
     @Description("Edge case: DELETE /api/v1/Authors/0")
     @Severity(SeverityLevel.MINOR)
     public void testDeleteAuthor_ZeroId() {
-        Response response = authorsClient.deleteAuthor(0);
+        Response response = authorsClient().deleteAuthor(0);
 
         assertNotNull(response, "Response should not be null");
     }
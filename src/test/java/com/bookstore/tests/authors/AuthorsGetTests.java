@@ -1,42 +1,48 @@
 package com.bookstore.tests.authors;
 
 import com.bookstore.base.BaseTest;
+import com.bookstore.clients.ResponseStreams;
+import com.bookstore.metrics.MaxLatency;
 import com.bookstore.models.Author;
 import io.qameta.allure.*;
 import io.restassured.response.Response;
 import org.testng.annotations.Test;
 
-import static org.hamcrest.Matchers.*;
+import java.util.stream.Stream;
+
 import static org.testng.Assert.*;
 
 @Epic("Authors API")
 @Feature("GET Operations")
+@MaxLatency(p = 99, millis = 3000)
 public class AuthorsGetTests extends BaseTest {
 
     @Test(description = "Verify getting all authors returns 200 and non-empty list")
     @Description("Happy path: GET /api/v1/Authors should return list of authors")
     @Severity(SeverityLevel.CRITICAL)
     public void testGetAllAuthors_Success() {
-        Response response = authorsClient.getAllAuthors();
+        Response response = authorsClient().streamAllAuthors();
 
-        assertEquals(response.getStatusCode(), 200, "Status code should be 200");
+        // Parse lazily: only the first element is read from the body
+        try (Stream<Author> authors = ResponseStreams.elements(response, Author.class)) {
+            assertEquals(response.getStatusCode(), 200, "Status code should be 200");
 
-        Author[] authors = response.as(Author[].class);
-        assertTrue(authors.length > 0, "Authors list should not be empty");
+            Author first = authors.findFirst().orElse(null);
+            assertNotNull(first, "Authors list should not be empty");
 
-        // Validate response structure
-        response.then()
-                .body("$", not(empty()))
-                .body("[0].id", notNullValue())
-                .body("[0].firstName", notNullValue());
+            // Validate response structure
+            assertTrue(first.getId() > 0, "First author should have an id");
+            assertNotNull(first.getFirstName(), "First author should have a first name");
+        }
     }
 
     @Test(description = "Verify getting a specific author by valid ID")
     @Description("Happy path: GET /api/v1/Authors/{id} with valid ID")
     @Severity(SeverityLevel.CRITICAL)
+    @MaxLatency(p = 99, millis = 1000)
     public void testGetAuthorById_ValidId_Success() {
         int authorId = 1;
-        Response response = authorsClient.getAuthorById(authorId);
+        Response response = authorsClient().getAuthorById(authorId);
 
         assertEquals(response.getStatusCode(), 200);
 
@@ -50,7 +56,7 @@ public class AuthorsGetTests extends BaseTest {
     @Severity(SeverityLevel.NORMAL)
     public void testGetAuthorById_InvalidId_ReturnsNotFound() {
         int invalidId = 999999;
-        Response response = authorsClient.getAuthorById(invalidId);
+        Response response = authorsClient().getAuthorById(invalidId);
 
         assertEquals(response.getStatusCode(), 404,
                 "Should return 404 for non-existent author");
@@ -60,7 +66,7 @@ public class AuthorsGetTests extends BaseTest {
     @Description("Edge case: GET /api/v1/Authors/0")
     @Severity(SeverityLevel.MINOR)
     public void testGetAuthorById_ZeroId() {
-        Response response = authorsClient.getAuthorById(0);
+        Response response = authorsClient().getAuthorById(0);
 
         int statusCode = response.getStatusCode();
         assertTrue(statusCode == 200 || statusCode == 404,
@@ -71,7 +77,7 @@ public class AuthorsGetTests extends BaseTest {
     @Description("Edge case: GET /api/v1/Authors/{negativeId}")
     @Severity(SeverityLevel.MINOR)
     public void testGetAuthorById_NegativeId() {
-        Response response = authorsClient.getAuthorById(-1);
+        Response response = authorsClient().getAuthorById(-1);
 
         int statusCode = response.getStatusCode();
         assertTrue(statusCode == 400 || statusCode == 404,
@@ -83,7 +89,7 @@ public class AuthorsGetTests extends BaseTest {
     @Severity(SeverityLevel.NORMAL)
     public void testGetAuthorById_ValidBookReference() {
         int authorId = 1;
-        Response response = authorsClient.getAuthorById(authorId);
+        Response response = authorsClient().getAuthorById(authorId);
 
         assertEquals(response.getStatusCode(), 200);
 
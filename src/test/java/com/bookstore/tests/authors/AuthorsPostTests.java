@@ -2,6 +2,7 @@ package com.bookstore.tests.authors;
 
 import com.bookstore.base.BaseTest;
 import com.bookstore.models.Author;
+import com.bookstore.models.ImmutableAuthor;
 import io.qameta.allure.*;
 import io.restassured.response.Response;
 import org.testng.annotations.Test;
@@ -23,7 +24,7 @@ public class AuthorsPostTests extends BaseTest {
                 .lastName("Doe")
                 .build();
 
-        Response response = authorsClient.createAuthor(newAuthor);
+        Response response = authorsClient().createAuthor(newAuthor);
 
         assertEquals(response.getStatusCode(), 200, "Status code should be 200");
 
@@ -42,7 +43,7 @@ public class AuthorsPostTests extends BaseTest {
                 .idBook(1)
                 .build();
 
-        Response response = authorsClient.createAuthor(minimalAuthor);
+        Response response = authorsClient().createAuthor(minimalAuthor);
 
         int statusCode = response.getStatusCode();
         assertTrue(statusCode == 200 || statusCode == 201,
@@ -60,7 +61,7 @@ public class AuthorsPostTests extends BaseTest {
                 .lastName("")
                 .build();
 
-        Response response = authorsClient.createAuthor(emptyNameAuthor);
+        Response response = authorsClient().createAuthor(emptyNameAuthor);
 
         int statusCode = response.getStatusCode();
         assertTrue(statusCode == 200 || statusCode == 400,
@@ -78,7 +79,7 @@ public class AuthorsPostTests extends BaseTest {
                 .lastName("Smith")
                 .build();
 
-        Response response = authorsClient.createAuthor(invalidRefAuthor);
+        Response response = authorsClient().createAuthor(invalidRefAuthor);
 
         // Document how API handles invalid references
         assertNotNull(response, "Response should not be null");
@@ -95,7 +96,7 @@ public class AuthorsPostTests extends BaseTest {
                 .lastName("O'Brien-Smith")
                 .build();
 
-        Response response = authorsClient.createAuthor(specialCharAuthor);
+        Response response = authorsClient().createAuthor(specialCharAuthor);
 
         assertEquals(response.getStatusCode(), 200);
 
@@ -117,8 +118,30 @@ public class AuthorsPostTests extends BaseTest {
                 .lastName(longName)
                 .build();
 
-        Response response = authorsClient.createAuthor(longNameAuthor);
+        Response response = authorsClient().createAuthor(longNameAuthor);
 
         assertNotNull(response, "Response should not be null");
     }
-}
\ No newline at end of file
+
+    @Test(description = "Verify creating an author from a pre-serialized immutable payload")
+    @Description("Happy path: POST /api/v1/Authors twice with the same cached JSON body")
+    @Severity(SeverityLevel.NORMAL)
+    public void testCreateAuthor_ImmutablePayload_Success() {
+        ImmutableAuthor newAuthor = Author.builder()
+                .id(9994)
+                .idBook(2)
+                .firstName("Jane")
+                .lastName("Immutable")
+                .buildImmutable();
+
+        for (int attempt = 1; attempt <= 2; attempt++) {
+            Response response = authorsClient().createAuthor(newAuthor);
+
+            assertEquals(response.getStatusCode(), 200, "Status code should be 200 on send " + attempt);
+            Author createdAuthor = response.as(Author.class);
+            assertEquals(createdAuthor.getId(), newAuthor.getId());
+            assertEquals(createdAuthor.getFirstName(), newAuthor.getFirstName());
+            assertEquals(createdAuthor.getLastName(), newAuthor.getLastName());
+        }
+    }
+}
@@ -1,6 +1,7 @@
 package com.bookstore.tests.authors;
 
 import com.bookstore.base.BaseTest;
+import com.bookstore.fixtures.Lease;
 import com.bookstore.models.Author;
 import io.qameta.allure.*;
 import io.restassured.response.Response;
@@ -16,44 +17,51 @@ public class AuthorsPutTests extends BaseTest {
     @Description("Happy path: PUT /api/v1/Authors/{id} with valid data")
     @Severity(SeverityLevel.CRITICAL)
     public void testUpdateAuthor_ValidData_Success() {
-        int authorId = 1;
+        try (Lease<Author> lease = leaseAuthor()) {
+            int authorId = lease.id();
 
-        Author updatedAuthor = Author.builder()
-                .id(authorId)
-                .idBook(2)
-                .firstName("UpdatedFirstName")
-                .lastName("UpdatedLastName")
-                .build();
+            Author updatedAuthor = Author.builder()
+                    .id(authorId)
+                    .idBook(2)
+                    .firstName("UpdatedFirstName")
+                    .lastName("UpdatedLastName")
+                    .build();
 
-        Response response = authorsClient.updateAuthor(authorId, updatedAuthor);
+            lease.modified();
+            Response response = authorsClient().updateAuthor(authorId, updatedAuthor);
 
-        assertEquals(response.getStatusCode(), 200);
+            assertEquals(response.getStatusCode(), 200);
 
-        Author returnedAuthor = response.as(Author.class);
-        assertEquals(returnedAuthor.getFirstName(), updatedAuthor.getFirstName());
-        assertEquals(returnedAuthor.getLastName(), updatedAuthor.getLastName());
+            Author returnedAuthor = response.as(Author.class);
+            assertEquals(returnedAuthor.getFirstName(), updatedAuthor.getFirstName());
+            assertEquals(returnedAuthor.getLastName(), updatedAuthor.getLastName());
+        }
     }
 
     @Test(description = "Verify updating author with mismatched ID in path and body")
     @Description("Edge case: PUT with ID mismatch between URL and payload")
     @Severity(SeverityLevel.NORMAL)
     public void testUpdateAuthor_MismatchedIds() {
-        int pathId = 1;
-        int bodyId = 2;
-
-        Author author = Author.builder()
-                .id(bodyId)
-                .idBook(1)
-                .firstName("Mismatched")
-                .lastName("Author")
-                .build();
-
-        Response response = authorsClient.updateAuthor(pathId, author);
-
-        assertNotNull(response);
-        int statusCode = response.getStatusCode();
-        assertTrue(statusCode == 200 || statusCode == 400,
-                "Should handle ID mismatch");
+        try (Lease<Author> pathLease = leaseAuthor(); Lease<Author> bodyLease = leaseAuthor()) {
+            int pathId = pathLease.id();
+            int bodyId = bodyLease.id();
+
+            Author author = Author.builder()
+                    .id(bodyId)
+                    .idBook(1)
+                    .firstName("Mismatched")
+                    .lastName("Author")
+                    .build();
+
+            pathLease.modified();
+            bodyLease.modified();
+            Response response = authorsClient().updateAuthor(pathId, author);
+
+            assertNotNull(response);
+            int statusCode = response.getStatusCode();
+            assertTrue(statusCode == 200 || statusCode == 400,
+                    "Should handle ID mismatch");
+        }
     }
 
     @Test(description = "Verify updating non-existent author")
@@ -69,7 +77,7 @@ public class AuthorsPutTests extends BaseTest {
                 .lastName("Existent")
                 .build();
 
-        Response response = authorsClient.updateAuthor(invalidId, author);
+        Response response = authorsClient().updateAuthor(invalidId, author);
 
         assertNotNull(response);
     }
@@ -78,37 +86,43 @@ public class AuthorsPutTests extends BaseTest {
     @Description("Happy path: Change author's associated book")
     @Severity(SeverityLevel.NORMAL)
     public void testUpdateAuthor_ChangeBookReference() {
-        int authorId = 1;
+        try (Lease<Author> lease = leaseAuthor()) {
+            int authorId = lease.id();
 
-        Author author = Author.builder()
-                .id(authorId)
-                .idBook(5)
-                .firstName("Same")
-                .lastName("Author")
-                .build();
+            Author author = Author.builder()
+                    .id(authorId)
+                    .idBook(5)
+                    .firstName("Same")
+                    .lastName("Author")
+                    .build();
 
-        Response response = authorsClient.updateAuthor(authorId, author);
+            lease.modified();
+            Response response = authorsClient().updateAuthor(authorId, author);
 
-        assertEquals(response.getStatusCode(), 200);
+            assertEquals(response.getStatusCode(), 200);
 
-        Author returnedAuthor = response.as(Author.class);
-        assertEquals(returnedAuthor.getIdBook(), 5,
-                "Book reference should be updated");
+            Author returnedAuthor = response.as(Author.class);
+            assertEquals(returnedAuthor.getIdBook(), 5,
+                    "Book reference should be updated");
+        }
     }
 
     @Test(description = "Verify partial update of author fields")
     @Description("Edge case: PUT with only some fields updated")
     @Severity(SeverityLevel.MINOR)
     public void testUpdateAuthor_PartialUpdate() {
-        int authorId = 1;
+        try (Lease<Author> lease = leaseAuthor()) {
+            int authorId = lease.id();
 
-        Author partialAuthor = Author.builder()
-                .id(authorId)
-                .firstName("OnlyFirstNameUpdated")
-                .build();
+            Author partialAuthor = Author.builder()
+                    .id(authorId)
+                    .firstName("OnlyFirstNameUpdated")
+                    .build();
 
-        Response response = authorsClient.updateAuthor(authorId, partialAuthor);
+            lease.modified();
+            Response response = authorsClient().updateAuthor(authorId, partialAuthor);
 
-        assertEquals(response.getStatusCode(), 200);
+            assertEquals(response.getStatusCode(), 200);
+        }
     }
 }
\ No newline at end of file
@@ -0,0 +1,54 @@
+package com.bookstore.tests.books;
+
+import com.bookstore.base.BaseTest;
+import com.bookstore.models.Book;
+import io.qameta.allure.*;
+import io.restassured.response.Response;
+import org.testng.annotations.Test;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.IntStream;
+
+import static org.testng.Assert.*;
+
+@Epic("Books API")
+@Feature("Async Operations")
+public class BooksAsyncTests extends BaseTest {
+
+    @Test(description = "Verify many concurrent GET by ID requests all succeed")
+    @Description("Concurrency: 100 GET /api/v1/Books/{id} requests in flight at once")
+    @Severity(SeverityLevel.NORMAL)
+    public void testGetBooksById_Concurrent_Success() {
+        List<CompletableFuture<Response>> requests = IntStream.rangeClosed(1, 100)
+                .mapToObj(asyncBooksClient()::getBookById)
+                .toList();
+
+        CompletableFuture.allOf(requests.toArray(CompletableFuture[]::new)).join();
+
+        for (int i = 0; i < requests.size(); i++) {
+            Response response = requests.get(i).join();
+            assertEquals(response.getStatusCode(), 200, "Status code should be 200");
+            assertEquals(response.as(Book.class).getId(), i + 1, "Book ID should match requested ID");
+        }
+    }
+
+    @Test(description = "Verify async create returns the created book")
+    @Description("Happy path: POST /api/v1/Books through the non-blocking client")
+    @Severity(SeverityLevel.NORMAL)
+    public void testCreateBook_Async_Success() {
+        Book newBook = Book.builder()
+                .id(9990)
+                .title("Async Book")
+                .description("Created without blocking")
+                .pageCount(120)
+                .excerpt("Async excerpt")
+                .publishDate("2024-01-01T00:00:00")
+                .build();
+
+        Response response = asyncBooksClient().createBook(newBook).join();
+
+        assertEquals(response.getStatusCode(), 200, "Status code should be 200");
+        assertEquals(response.as(Book.class).getTitle(), newBook.getTitle());
+    }
+}
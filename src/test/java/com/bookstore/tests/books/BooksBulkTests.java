@@ -0,0 +1,98 @@
+package com.bookstore.tests.books;
+
+import com.bookstore.base.BaseTest;
+import com.bookstore.clients.BulkOutcome;
+import com.bookstore.fixtures.Lease;
+import com.bookstore.models.Book;
+import io.qameta.allure.*;
+import io.restassured.response.Response;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+
+import static org.testng.Assert.*;
+
+@Epic("Books API")
+@Feature("Bulk Operations")
+public class BooksBulkTests extends BaseTest {
+
+    @Test(description = "Verify bulk create returns one response per book in order")
+    @Description("Bulk: POST /api/v1/Books for 50 books with bounded concurrency")
+    @Severity(SeverityLevel.NORMAL)
+    public void testCreateBooks_Bulk_ResponsesInOrder() {
+        List<Book> books = IntStream.rangeClosed(1, 50)
+                .mapToObj(i -> book(9000 + i, "Bulk Book " + i))
+                .toList();
+
+        List<BulkOutcome> outcomes = booksClient().createBooks(books);
+
+        assertEquals(outcomes.size(), books.size(), "Should return one outcome per book");
+        for (int i = 0; i < books.size(); i++) {
+            assertEquals(outcomes.get(i).orThrow().getStatusCode(), 200, "Status code should be 200");
+            assertEquals(outcomes.get(i).orThrow().as(Book.class).getTitle(), books.get(i).getTitle(),
+                    "Response " + i + " should belong to book " + i);
+        }
+    }
+
+    @Test(description = "Verify bulk update returns one response per entry in map order")
+    @Description("Bulk: PUT /api/v1/Books/{id} for 6 leased books with bounded concurrency")
+    @Severity(SeverityLevel.NORMAL)
+    public void testUpdateBooks_Bulk_ResponsesInOrder() {
+        List<Lease<Book>> leases = new ArrayList<>();
+        try {
+            for (int i = 0; i < 6; i++) {
+                leases.add(leaseBook());
+            }
+            // Reverse lease order, so the map order is not the order the fixtures were created in
+            Map<Integer, Book> books = new LinkedHashMap<>();
+            for (Lease<Book> lease : leases.reversed()) {
+                lease.modified();
+                books.put(lease.id(), book(lease.id(), "Bulk Updated " + lease.id()));
+            }
+
+            List<BulkOutcome> outcomes = booksClient().updateBooks(books);
+
+            assertEquals(outcomes.size(), books.size(), "Should return one outcome per book");
+            int i = 0;
+            for (Map.Entry<Integer, Book> entry : books.entrySet()) {
+                Response response = outcomes.get(i++).orThrow();
+                assertEquals(response.getStatusCode(), 200, "Status code should be 200");
+                assertEquals(response.as(Book.class).getId(), entry.getKey().intValue(), "Book ID should match");
+            }
+        } finally {
+            leases.forEach(Lease::close);
+        }
+    }
+
+    @Test(description = "Verify bulk delete returns 200 for every ID")
+    @Description("Bulk: DELETE /api/v1/Books/{id} for 30 books created by the test, with bounded concurrency")
+    @Severity(SeverityLevel.NORMAL)
+    public void testDeleteBooks_Bulk_Success() {
+        int[] ids = IntStream.rangeClosed(9401, 9430).toArray();
+        List<BulkOutcome> created = booksClient().createBooks(Arrays.stream(ids)
+                .mapToObj(id -> book(id, "BulkDelete" + id))
+                .toList());
+        created.forEach(outcome -> assertEquals(outcome.orThrow().getStatusCode(), 200, "Setup POST should succeed"));
+
+        List<BulkOutcome> outcomes = booksClient().deleteBooks(ids);
+
+        assertEquals(outcomes.size(), ids.length, "Should return one outcome per ID");
+        outcomes.forEach(outcome -> assertEquals(outcome.orThrow().getStatusCode(), 200, "Status code should be 200"));
+    }
+
+    private static Book book(int id, String title) {
+        return Book.builder()
+                .id(id)
+                .title(title)
+                .description("Created in bulk")
+                .pageCount(100)
+                .excerpt("Bulk excerpt")
+                .publishDate("2024-01-01T00:00:00")
+                .build();
+    }
+}
@@ -0,0 +1,153 @@
+package com.bookstore.tests.books;
+
+import com.bookstore.base.BaseTest;
+import com.bookstore.clients.BooksClient;
+import com.bookstore.models.Book;
+import com.bookstore.scenario.Chain;
+import com.bookstore.scenario.ScenarioGraph;
+import com.bookstore.scenario.ScenarioReport;
+import com.bookstore.scenario.StepOutcome;
+import io.qameta.allure.*;
+import io.restassured.response.Response;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.testng.annotations.Test;
+
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+import static org.testng.Assert.*;
+
+@Epic("Books API")
+@Feature("CRUD Chains")
+public class BooksCrudChainTests extends BaseTest {
+
+    private static final Logger log = LoggerFactory.getLogger(BooksCrudChainTests.class);
+
+    @Test(description = "Verify independent create-read-update-delete chains of books")
+    @Description("Scenario: POST, GET, PUT, DELETE /api/v1/Books per chain, independent chains in parallel")
+    @Severity(SeverityLevel.CRITICAL)
+    public void testBookCrudChains_RunInParallel() {
+        BooksClient books = booksClient();
+        ScenarioGraph graph = new ScenarioGraph();
+
+        for (int i = 1; i <= 4; i++) {
+            int id = 9100 + i;
+            graph.chain("book " + id)
+                    .step("create", context -> {
+                        Response response = books.createBook(book(id, "Chain Book " + id));
+                        assertEquals(response.getStatusCode(), 200, "Create should succeed");
+                        context.put("id", response.as(Book.class).getId());
+                    })
+                    .step("read", context -> {
+                        Response response = books.getBookById(context.getInt("id"));
+                        // FakeRestAPI (and the stub) do not persist created books
+                        assertTrue(response.getStatusCode() == 200 || response.getStatusCode() == 404,
+                                "Read should find the book or report it missing");
+                        if (response.getStatusCode() == 200) {
+                            assertEquals(response.as(Book.class).getId(), context.getInt("id"));
+                        }
+                    })
+                    .step("update", context -> {
+                        int bookId = context.getInt("id");
+                        Response response = books.updateBook(bookId, book(bookId, "Chain Book " + bookId + " v2"));
+                        assertEquals(response.getStatusCode(), 200, "Update should succeed");
+                        assertEquals(response.as(Book.class).getTitle(), "Chain Book " + bookId + " v2");
+                    })
+                    .step("delete", context -> {
+                        Response response = books.deleteBook(context.getInt("id"));
+                        assertEquals(response.getStatusCode(), 200, "Delete should succeed");
+                    });
+        }
+
+        ScenarioReport report = graph.run();
+
+        String summary = report.render();
+        log.info("Book CRUD chains finished:\n{}", summary);
+        Allure.addAttachment("CRUD chains", "text/plain", summary, ".txt");
+
+        report.assertPassed();
+    }
+
+    @Test(description = "Verify a failed chain step skips only the steps that depend on it")
+    @Description("Scenario: one chain fails on purpose; only the steps depending on the failure are skipped")
+    @Severity(SeverityLevel.NORMAL)
+    public void testBookCrudChains_FailedStepSkipsOnlyDependents() {
+        BooksClient books = booksClient();
+        ScenarioGraph graph = new ScenarioGraph();
+        Queue<String> events = new ConcurrentLinkedQueue<>();
+
+        Chain failing = graph.chain("book 9310")
+                .step("create", context -> {
+                    Response response = books.createBook(book(9310, "Chain Book 9310"));
+                    assertEquals(response.getStatusCode(), 200, "Create should succeed");
+                    context.put("id", response.as(Book.class).getId());
+                    events.add("9310 created");
+                });
+        // Declared while the create step is the failing chain's latest, so it waits for that step only
+        graph.chain("book 9311")
+                .after(failing)
+                .step("create", context -> {
+                    events.add("9311 started");
+                    Response response = books.createBook(book(9311, "Chain Book 9311"));
+                    assertEquals(response.getStatusCode(), 200, "Create should succeed");
+                });
+        failing
+                .step("read missing", context -> {
+                    Response response = books.getBookById(999999);
+                    assertEquals(response.getStatusCode(), 200, "Fails on purpose: book 999999 does not exist");
+                })
+                .step("delete", context -> books.deleteBook(context.getInt("id")));
+        graph.chain("book 9312")
+                .after(failing)
+                .step("create", context -> books.createBook(book(9312, "Chain Book 9312")));
+        graph.chain("book 9313")
+                .step("create", context -> {
+                    Response response = books.createBook(book(9313, "Chain Book 9313"));
+                    assertEquals(response.getStatusCode(), 200, "Create should succeed");
+                    context.put("id", response.as(Book.class).getId());
+                })
+                .step("delete", context -> {
+                    Response response = books.deleteBook(context.getInt("id"));
+                    assertEquals(response.getStatusCode(), 200, "Delete should succeed");
+                });
+
+        ScenarioReport report = graph.run();
+        log.info("Book CRUD chains with a failing step finished:\n{}", report.render());
+
+        assertEquals(status(report, "book 9310 / create"), StepOutcome.Status.PASSED);
+        assertEquals(status(report, "book 9310 / read missing"), StepOutcome.Status.FAILED);
+        assertEquals(status(report, "book 9310 / delete"), StepOutcome.Status.SKIPPED,
+                "A later step of the failed chain should be skipped");
+        assertEquals(status(report, "book 9312 / create"), StepOutcome.Status.SKIPPED,
+                "A chain waiting for the failed chain should be skipped");
+        assertEquals(status(report, "book 9311 / create"), StepOutcome.Status.PASSED,
+                "A chain waiting only for a passed step should run");
+        assertEquals(status(report, "book 9313 / create"), StepOutcome.Status.PASSED,
+                "An independent chain should run");
+        assertEquals(status(report, "book 9313 / delete"), StepOutcome.Status.PASSED,
+                "An independent chain should run to the end");
+        assertEquals(List.copyOf(events), List.of("9310 created", "9311 started"),
+                "A chain declared after another should start only once that chain's step has finished");
+    }
+
+    private static StepOutcome.Status status(ScenarioReport report, String step) {
+        return report.steps().stream()
+                .filter(outcome -> outcome.name().equals(step))
+                .findFirst()
+                .orElseThrow(() -> new AssertionError("No step '" + step + "' in the report"))
+                .status();
+    }
+
+    private static Book book(int id, String title) {
+        return Book.builder()
+                .id(id)
+                .title(title)
+                .description("Created by a CRUD chain")
+                .pageCount(120)
+                .excerpt("Chain excerpt")
+                .publishDate("2024-01-01T00:00:00")
+                .build();
+    }
+}
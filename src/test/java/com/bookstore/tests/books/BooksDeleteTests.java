@@ -1,6 +1,8 @@
 package com.bookstore.tests.books;
 
 import com.bookstore.base.BaseTest;
+import com.bookstore.fixtures.Lease;
+import com.bookstore.models.Book;
 import io.qameta.allure.*;
 import io.restassured.response.Response;
 import org.testng.annotations.Test;
@@ -15,11 +17,13 @@ public class BooksDeleteTests extends BaseTest {
     @Description("Happy path: DELETE /api/v1/Books/{id}")
     @Severity(SeverityLevel.CRITICAL)
     public void testDeleteBook_ValidId_Success() {
-        int bookId = 1;
-        Response response = booksClient.deleteBook(bookId);
+        try (Lease<Book> lease = leaseBook()) {
+            lease.deleted();
+            Response response = booksClient().deleteBook(lease.id());
 
-        assertEquals(response.getStatusCode(), 200,
-                "Should successfully delete book");
+            assertEquals(response.getStatusCode(), 200,
+                    "Should successfully delete book");
+        }
     }
 
     @Test(description = "Verify deleting non-existent book")
@@ -27,7 +31,7 @@ public class BooksDeleteTests extends BaseTest {
     @Severity(SeverityLevel.NORMAL)
     public void testDeleteBook_NonExistentId() {
         int invalidId = 999999;
-        Response response = booksClient.deleteBook(invalidId);
+        Response response = booksClient().deleteBook(invalidId);
 
         // Some APIs return 200, others 404 for deleting non-existent resources
         int statusCode = response.getStatusCode();
@@ -39,7 +43,7 @@ public class BooksDeleteTests extends BaseTest {
     @Description("Edge case: DELETE with negative ID")
     @Severity(SeverityLevel.MINOR)
     public void testDeleteBook_NegativeId() {
-        Response response = booksClient.deleteBook(-1);
+        Response response = booksClient().deleteBook(-1);
 
         assertNotNull(response, "Response should not be null");
     }
@@ -48,16 +52,19 @@ public class BooksDeleteTests extends BaseTest {
     @Description("Edge case: Double deletion (idempotency test)")
     @Severity(SeverityLevel.NORMAL)
     public void testDeleteBook_Twice() {
-        int bookId = 5;
+        try (Lease<Book> lease = leaseBook()) {
+            int bookId = lease.id();
+            lease.deleted();
 
-        // First deletion
-        Response firstResponse = booksClient.deleteBook(bookId);
-        assertEquals(firstResponse.getStatusCode(), 200);
+            // First deletion
+            Response firstResponse = booksClient().deleteBook(bookId);
+            assertEquals(firstResponse.getStatusCode(), 200);
 
-        // Second deletion (should be idempotent or return 404)
-        Response secondResponse = booksClient.deleteBook(bookId);
-        int statusCode = secondResponse.getStatusCode();
-        assertTrue(statusCode == 200 || statusCode == 404,
-                "Second delete should be idempotent or return 404");
+            // Second deletion (should be idempotent or return 404)
+            Response secondResponse = booksClient().deleteBook(bookId);
+            int statusCode = secondResponse.getStatusCode();
+            assertTrue(statusCode == 200 || statusCode == 404,
+                    "Second delete should be idempotent or return 404");
+        }
     }
 }
\ No newline at end of file
@@ -1,43 +1,48 @@
 package com.bookstore.tests.books;
 
 import com.bookstore.base.BaseTest;
+import com.bookstore.clients.ResponseStreams;
+import com.bookstore.metrics.MaxLatency;
 import com.bookstore.models.Book;
 import io.qameta.allure.*;
 import io.restassured.response.Response;
 import org.testng.annotations.Test;
 
-import static org.hamcrest.Matchers.*;
+import java.util.stream.Stream;
+
 import static org.testng.Assert.*;
 
 @Epic("Books API")
 @Feature("GET Operations")
+@MaxLatency(p = 99, millis = 3000)
 public class BooksGetTests extends BaseTest {
 
     @Test(description = "Verify getting all books returns 200 and non-empty list")
     @Description("Happy path: GET /api/v1/Books should return list of books")
     @Severity(SeverityLevel.CRITICAL)
     public void testGetAllBooks_Success() {
-        Response response = booksClient.getAllBooks();
+        Response response = booksClient().streamAllBooks();
 
-        // Assertions
-        assertEquals(response.getStatusCode(), 200, "Status code should be 200");
+        // Parse lazily: only the first element is read from the body
+        try (Stream<Book> books = ResponseStreams.elements(response, Book.class)) {
+            assertEquals(response.getStatusCode(), 200, "Status code should be 200");
 
-        Book[] books = response.as(Book[].class);
-        assertTrue(books.length > 0, "Books list should not be empty");
+            Book first = books.findFirst().orElse(null);
+            assertNotNull(first, "Books list should not be empty");
 
-        // Validate response body structure
-        response.then()
-                .body("$", not(empty()))
-                .body("[0].id", notNullValue())
-                .body("[0].title", notNullValue());
+            // Validate response body structure
+            assertTrue(first.getId() > 0, "First book should have an id");
+            assertNotNull(first.getTitle(), "First book should have a title");
+        }
     }
 
     @Test(description = "Verify getting a specific book by valid ID")
     @Description("Happy path: GET /api/v1/Books/{id} with valid ID")
     @Severity(SeverityLevel.CRITICAL)
+    @MaxLatency(p = 99, millis = 1000)
     public void testGetBookById_ValidId_Success() {
         int bookId = 1;
-        Response response = booksClient.getBookById(bookId);
+        Response response = booksClient().getBookById(bookId);
 
         assertEquals(response.getStatusCode(), 200);
 
@@ -51,7 +56,7 @@ public class BooksGetTests extends BaseTest {
     @Severity(SeverityLevel.NORMAL)
     public void testGetBookById_InvalidId_ReturnsNotFound() {
         int invalidId = 999999;
-        Response response = booksClient.getBookById(invalidId);
+        Response response = booksClient().getBookById(invalidId);
 
         assertEquals(response.getStatusCode(), 404,
                 "Should return 404 for non-existent book");
@@ -61,7 +66,7 @@ public class BooksGetTests extends BaseTest {
     @Description("Edge case: GET /api/v1/Books/0")
     @Severity(SeverityLevel.MINOR)
     public void testGetBookById_ZeroId() {
-        Response response = booksClient.getBookById(0);
+        Response response = booksClient().getBookById(0);
 
         // Document actual behavior
         int statusCode = response.getStatusCode();
@@ -73,7 +78,7 @@ public class BooksGetTests extends BaseTest {
     @Description("Edge case: GET /api/v1/Books/{negativeId}")
     @Severity(SeverityLevel.MINOR)
     public void testGetBookById_NegativeId() {
-        Response response = booksClient.getBookById(-1);
+        Response response = booksClient().getBookById(-1);
 
         // Document actual behavior
         int statusCode = response.getStatusCode();
@@ -2,6 +2,7 @@ package com.bookstore.tests.books;
 
 import com.bookstore.base.BaseTest;
 import com.bookstore.models.Book;
+import com.bookstore.models.ImmutableBook;
 import io.qameta.allure.*;
 import io.restassured.response.Response;
 import org.testng.annotations.Test;
@@ -25,7 +26,7 @@ public class BooksPostTests extends BaseTest {
                 .publishDate("2024-01-15T00:00:00")
                 .build();
 
-        Response response = booksClient.createBook(newBook);
+        Response response = booksClient().createBook(newBook);
 
         assertEquals(response.getStatusCode(), 200, "Status code should be 200");
 
@@ -44,7 +45,7 @@ public class BooksPostTests extends BaseTest {
                 .title("Minimal Book")
                 .build();
 
-        Response response = booksClient.createBook(minimalBook);
+        Response response = booksClient().createBook(minimalBook);
 
         int statusCode = response.getStatusCode();
         assertTrue(statusCode == 200 || statusCode == 201,
@@ -62,7 +63,7 @@ public class BooksPostTests extends BaseTest {
                 .pageCount(100)
                 .build();
 
-        Response response = booksClient.createBook(emptyTitleBook);
+        Response response = booksClient().createBook(emptyTitleBook);
 
         // Document actual API behavior
         int statusCode = response.getStatusCode();
@@ -80,7 +81,7 @@ public class BooksPostTests extends BaseTest {
                 .pageCount(-100)
                 .build();
 
-        Response response = booksClient.createBook(invalidBook);
+        Response response = booksClient().createBook(invalidBook);
 
         // Document actual behavior
         int statusCode = response.getStatusCode();
@@ -100,9 +101,33 @@ public class BooksPostTests extends BaseTest {
                 .pageCount(200)
                 .build();
 
-        Response response = booksClient.createBook(longTitleBook);
+        Response response = booksClient().createBook(longTitleBook);
 
         // Document behavior with extreme input
         assertNotNull(response, "Response should not be null");
     }
-}
\ No newline at end of file
+
+    @Test(description = "Verify creating a book from a pre-serialized immutable payload")
+    @Description("Happy path: POST /api/v1/Books twice with the same cached JSON body")
+    @Severity(SeverityLevel.NORMAL)
+    public void testCreateBook_ImmutablePayload_Success() {
+        ImmutableBook newBook = Book.builder()
+                .id(9994)
+                .title("Immutable Payload Book")
+                .description("Serialized once, sent twice")
+                .pageCount(180)
+                .excerpt("Cached bytes")
+                .publishDate("2024-02-01T00:00:00")
+                .buildImmutable();
+
+        for (int attempt = 1; attempt <= 2; attempt++) {
+            Response response = booksClient().createBook(newBook);
+
+            assertEquals(response.getStatusCode(), 200, "Status code should be 200 on send " + attempt);
+            Book createdBook = response.as(Book.class);
+            assertEquals(createdBook.getId(), newBook.getId());
+            assertEquals(createdBook.getTitle(), newBook.getTitle());
+            assertEquals(createdBook.getPageCount(), newBook.getPageCount());
+        }
+    }
+}
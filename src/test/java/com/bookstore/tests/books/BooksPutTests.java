@@ -1,6 +1,7 @@
 package com.bookstore.tests.books;
 
 import com.bookstore.base.BaseTest;
+import com.bookstore.fixtures.Lease;
 import com.bookstore.models.Book;
 import io.qameta.allure.*;
 import io.restassured.response.Response;
@@ -16,46 +17,53 @@ public class BooksPutTests extends BaseTest {
     @Description("Happy path: PUT /api/v1/Books/{id} with valid data")
     @Severity(SeverityLevel.CRITICAL)
     public void testUpdateBook_ValidData_Success() {
-        int bookId = 1;
-
-        Book updatedBook = Book.builder()
-                .id(bookId)
-                .title("Updated Book Title")
-                .description("Updated description")
-                .pageCount(500)
-                .excerpt("Updated excerpt")
-                .publishDate("2024-02-01T00:00:00")
-                .build();
-
-        Response response = booksClient.updateBook(bookId, updatedBook);
-
-        assertEquals(response.getStatusCode(), 200);
-
-        Book returnedBook = response.as(Book.class);
-        assertEquals(returnedBook.getTitle(), updatedBook.getTitle());
-        assertEquals(returnedBook.getPageCount(), updatedBook.getPageCount());
+        try (Lease<Book> lease = leaseBook()) {
+            int bookId = lease.id();
+
+            Book updatedBook = Book.builder()
+                    .id(bookId)
+                    .title("Updated Book Title")
+                    .description("Updated description")
+                    .pageCount(500)
+                    .excerpt("Updated excerpt")
+                    .publishDate("2024-02-01T00:00:00")
+                    .build();
+
+            lease.modified();
+            Response response = booksClient().updateBook(bookId, updatedBook);
+
+            assertEquals(response.getStatusCode(), 200);
+
+            Book returnedBook = response.as(Book.class);
+            assertEquals(returnedBook.getTitle(), updatedBook.getTitle());
+            assertEquals(returnedBook.getPageCount(), updatedBook.getPageCount());
+        }
     }
 
     @Test(description = "Verify updating book with mismatched ID in path and body")
     @Description("Edge case: PUT with ID mismatch between URL and payload")
     @Severity(SeverityLevel.NORMAL)
     public void testUpdateBook_MismatchedIds() {
-        int pathId = 1;
-        int bodyId = 2;
-
-        Book book = Book.builder()
-                .id(bodyId)
-                .title("Mismatched ID Book")
-                .pageCount(300)
-                .build();
-
-        Response response = booksClient.updateBook(pathId, book);
-
-        // Document how API handles ID mismatch
-        assertNotNull(response);
-        int statusCode = response.getStatusCode();
-        assertTrue(statusCode == 200 || statusCode == 400,
-                "Should handle ID mismatch");
+        try (Lease<Book> pathLease = leaseBook(); Lease<Book> bodyLease = leaseBook()) {
+            int pathId = pathLease.id();
+            int bodyId = bodyLease.id();
+
+            Book book = Book.builder()
+                    .id(bodyId)
+                    .title("Mismatched ID Book")
+                    .pageCount(300)
+                    .build();
+
+            pathLease.modified();
+            bodyLease.modified();
+            Response response = booksClient().updateBook(pathId, book);
+
+            // Document how API handles ID mismatch
+            assertNotNull(response);
+            int statusCode = response.getStatusCode();
+            assertTrue(statusCode == 200 || statusCode == 400,
+                    "Should handle ID mismatch");
+        }
     }
 
     @Test(description = "Verify updating non-existent book")
@@ -70,7 +78,7 @@ public class BooksPutTests extends BaseTest {
                 .pageCount(100)
                 .build();
 
-        Response response = booksClient.updateBook(invalidId, book);
+        Response response = booksClient().updateBook(invalidId, book);
 
         // Many APIs return 200 for PUT to non-existent resources (creates them)
         assertNotNull(response);
@@ -80,15 +88,18 @@ public class BooksPutTests extends BaseTest {
     @Description("Edge case: PUT with only some fields updated")
     @Severity(SeverityLevel.MINOR)
     public void testUpdateBook_PartialUpdate() {
-        int bookId = 1;
+        try (Lease<Book> lease = leaseBook()) {
+            int bookId = lease.id();
 
-        Book partialBook = Book.builder()
-                .id(bookId)
-                .title("Only Title Updated")
-                .build();
+            Book partialBook = Book.builder()
+                    .id(bookId)
+                    .title("Only Title Updated")
+                    .build();
 
-        Response response = booksClient.updateBook(bookId, partialBook);
+            lease.modified();
+            Response response = booksClient().updateBook(bookId, partialBook);
 
-        assertEquals(response.getStatusCode(), 200);
+            assertEquals(response.getStatusCode(), 200);
+        }
     }
 }
\ No newline at end of file
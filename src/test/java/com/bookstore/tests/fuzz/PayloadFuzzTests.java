@@ -0,0 +1,135 @@
+package com.bookstore.tests.fuzz;
+
+import com.bookstore.base.BaseTest;
+import com.bookstore.config.Config;
+import com.bookstore.fuzz.FuzzProperty;
+import com.bookstore.fuzz.FuzzReport;
+import com.bookstore.fuzz.Fuzzer;
+import com.bookstore.fuzz.PayloadGens;
+import com.bookstore.fuzz.Shrinker;
+import com.bookstore.models.Author;
+import com.bookstore.models.Book;
+import io.qameta.allure.*;
+import io.restassured.response.Response;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.testng.annotations.Test;
+
+import java.util.Objects;
+
+import static org.testng.Assert.*;
+
+@Epic("Fuzzing")
+@Feature("Payload fuzzing")
+public class PayloadFuzzTests extends BaseTest {
+
+    private static final Logger log = LoggerFactory.getLogger(PayloadFuzzTests.class);
+
+    @Test(description = "Fuzz POST /Books with generated book payloads")
+    @Description("Fuzz: every generated book is either echoed back unchanged or rejected with validation details")
+    @Severity(SeverityLevel.NORMAL)
+    public void testCreateBook_Fuzz() {
+        fuzz(new Fuzzer<>("POST /Books", PayloadGens.books(), Shrinker.books(),
+                asyncBooksClient()::createBook, PayloadFuzzTests::echoesBook));
+    }
+
+    @Test(description = "Fuzz PUT /Books/{id} with generated book payloads")
+    @Description("Fuzz: every generated book, sent to its own id, is either echoed back or rejected with details")
+    @Severity(SeverityLevel.NORMAL)
+    public void testUpdateBook_Fuzz() {
+        fuzz(new Fuzzer<>("PUT /Books/{id}", PayloadGens.books(), Shrinker.books(),
+                book -> asyncBooksClient().updateBook(book.getId(), book), PayloadFuzzTests::echoesBook));
+    }
+
+    @Test(description = "Fuzz POST /Authors with generated author payloads")
+    @Description("Fuzz: every generated author is either echoed back unchanged or rejected with validation details")
+    @Severity(SeverityLevel.NORMAL)
+    public void testCreateAuthor_Fuzz() {
+        fuzz(new Fuzzer<>("POST /Authors", PayloadGens.authors(), Shrinker.authors(),
+                asyncAuthorsClient()::createAuthor, PayloadFuzzTests::echoesAuthor));
+    }
+
+    @Test(description = "Fuzz PUT /Authors/{id} with generated author payloads")
+    @Description("Fuzz: every generated author, sent to its own id, is either echoed back or rejected with details")
+    @Severity(SeverityLevel.NORMAL)
+    public void testUpdateAuthor_Fuzz() {
+        fuzz(new Fuzzer<>("PUT /Authors/{id}", PayloadGens.authors(), Shrinker.authors(),
+                author -> asyncAuthorsClient().updateAuthor(author.getId(), author), PayloadFuzzTests::echoesAuthor));
+    }
+
+    private static <T> void fuzz(Fuzzer<T> fuzzer) {
+        FuzzReport<T> report = fuzzer.run(Config.FUZZ_SEED, Config.FUZZ_CASES, Config.FUZZ_CONCURRENCY);
+
+        String summary = report.render();
+        log.info("Fuzz run finished:\n{}", summary);
+        Allure.addAttachment("Fuzz report", "text/plain", summary, ".txt");
+
+        assertTrue(report.passed(), summary);
+    }
+
+    private static String echoesBook(Book sent, Response response) {
+        String violation = acceptedOrRejected(response);
+        if (violation != null || response.getStatusCode() != 200) {
+            return violation;
+        }
+        Book echoed = response.as(Book.class);
+        if (echoed.getId() != sent.getId()) {
+            return "echoed id differs";
+        }
+        if (!Objects.equals(echoed.getTitle(), sent.getTitle())) {
+            return "echoed title differs";
+        }
+        if (!Objects.equals(echoed.getDescription(), sent.getDescription())) {
+            return "echoed description differs";
+        }
+        if (echoed.getPageCount() != sent.getPageCount()) {
+            return "echoed pageCount differs";
+        }
+        if (!Objects.equals(echoed.getExcerpt(), sent.getExcerpt())) {
+            return "echoed excerpt differs";
+        }
+        return null;
+    }
+
+    private static String echoesAuthor(Author sent, Response response) {
+        String violation = acceptedOrRejected(response);
+        if (violation != null || response.getStatusCode() != 200) {
+            return violation;
+        }
+        Author echoed = response.as(Author.class);
+        if (echoed.getId() != sent.getId()) {
+            return "echoed id differs";
+        }
+        if (echoed.getIdBook() != sent.getIdBook()) {
+            return "echoed idBook differs";
+        }
+        if (!Objects.equals(echoed.getFirstName(), sent.getFirstName())) {
+            return "echoed firstName differs";
+        }
+        if (!Objects.equals(echoed.getLastName(), sent.getLastName())) {
+            return "echoed lastName differs";
+        }
+        return null;
+    }
+
+    /**
+     * The API either accepts a payload (200) or rejects it with RFC 7807 validation details (400).
+     */
+    private static String acceptedOrRejected(Response response) {
+        int status = response.getStatusCode();
+        if (status == 200) {
+            return null;
+        }
+        if (status != 400) {
+            return "status " + status;
+        }
+        String contentType = response.getContentType();
+        if (contentType == null || !contentType.contains("problem+json")) {
+            return "400 without problem details";
+        }
+        if (response.jsonPath().getMap("errors") == null) {
+            return "400 without validation errors";
+        }
+        return null;
+    }
+}
@@ -0,0 +1,80 @@
+package com.bookstore.tests.load;
+
+import com.bookstore.base.BaseTest;
+import com.bookstore.clients.AuthorsClient;
+import com.bookstore.clients.BooksClient;
+import com.bookstore.config.Config;
+import com.bookstore.load.LoadOperation;
+import com.bookstore.load.LoadProfile;
+import com.bookstore.load.LoadReport;
+import com.bookstore.load.OpenModelLoadRunner;
+import com.bookstore.models.Author;
+import com.bookstore.models.Book;
+import com.bookstore.models.ImmutableAuthor;
+import com.bookstore.models.ImmutableBook;
+import io.qameta.allure.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.testng.annotations.Test;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+import static org.testng.Assert.*;
+
+@Epic("Load")
+@Feature("Open-model load")
+public class BookstoreLoadTests extends BaseTest {
+
+    private static final Logger log = LoggerFactory.getLogger(BookstoreLoadTests.class);
+
+    @Test(description = "Drive a mixed Books/Authors workload at a fixed arrival rate")
+    @Description("Load: fixed-rate GET/POST/PUT/DELETE mix on Books and Authors; corrected latency percentiles")
+    @Severity(SeverityLevel.NORMAL)
+    public void testMixedWorkload_FixedArrivalRate() {
+        BooksClient books = booksClient();
+        AuthorsClient authors = authorsClient();
+
+        // Serialized once for the whole run
+        ImmutableBook book = Book.builder()
+                .id(5000)
+                .title("Load Test Book")
+                .description("Created by the load run")
+                .pageCount(250)
+                .excerpt("Load excerpt")
+                .publishDate("2024-01-01T00:00:00")
+                .buildImmutable();
+        ImmutableAuthor author = Author.builder()
+                .id(5000)
+                .idBook(1)
+                .firstName("Load")
+                .lastName("Runner")
+                .buildImmutable();
+
+        List<LoadOperation> operations = List.of(
+                LoadOperation.of("GET /Books", 1, books::getAllBooks),
+                LoadOperation.of("GET /Books/{id}", 4, () -> books.getBookById(randomId(200))),
+                LoadOperation.of("POST /Books", 1, () -> books.createBook(book)),
+                LoadOperation.of("PUT /Books/{id}", 1, () -> books.updateBook(book.getId(), book)),
+                LoadOperation.of("DELETE /Books/{id}", 1, () -> books.deleteBook(book.getId())),
+                LoadOperation.of("GET /Authors", 1, authors::getAllAuthors),
+                LoadOperation.of("GET /Authors/{id}", 4, () -> authors.getAuthorById(randomId(200))),
+                LoadOperation.of("POST /Authors", 1, () -> authors.createAuthor(author)),
+                LoadOperation.of("PUT /Authors/{id}", 1, () -> authors.updateAuthor(author.getId(), author)),
+                LoadOperation.of("DELETE /Authors/{id}", 1, () -> authors.deleteAuthor(author.getId())));
+
+        LoadReport report = new OpenModelLoadRunner(operations).run(LoadProfile.fromConfig());
+
+        String summary = report.render();
+        log.info("Load run finished:\n{}", summary);
+        Allure.addAttachment("Load report", "text/plain", summary, ".txt");
+
+        assertTrue(report.totalRequests() > 0, "Load run should issue requests");
+        assertTrue(report.errorRate() <= Config.LOAD_MAX_ERROR_RATE,
+                "Error rate " + report.errorRate() + " exceeds " + Config.LOAD_MAX_ERROR_RATE);
+    }
+
+    private static int randomId(int max) {
+        return ThreadLocalRandom.current().nextInt(1, max + 1);
+    }
+}